@@ -0,0 +1,16 @@
+--
+-- Copyright 2025 Aryan Singh
+-- Developer: Aryan Singh (@singhtwenty2)
+-- Portfolio: https://singhtwenty2.pages.dev/
+-- This file is part of SSEW E-commerce Backend System
+-- Licensed under MIT License
+-- For commercial use and inquiries: aryansingh.corp@gmail.com
+-- @author Aryan Singh (@singhtwenty2)
+-- @project SSEW E-commerce Backend System
+-- @since 2025
+--
+
+CREATE TABLE IF NOT EXISTS sku_sequences (
+    prefix     VARCHAR(50) NOT NULL PRIMARY KEY,
+    last_value BIGINT      NOT NULL
+);
@@ -0,0 +1,21 @@
+--
+-- Copyright 2025 Aryan Singh
+-- Developer: Aryan Singh (@singhtwenty2)
+-- Portfolio: https://singhtwenty2.pages.dev/
+-- This file is part of SSEW E-commerce Backend System
+-- Licensed under MIT License
+-- For commercial use and inquiries: aryansingh.corp@gmail.com
+-- @author Aryan Singh (@singhtwenty2)
+-- @project SSEW E-commerce Backend System
+-- @since 2025
+--
+
+
+CREATE TABLE IF NOT EXISTS product_categories (
+    product_id  UUID NOT NULL,
+    category_id UUID NOT NULL,
+    PRIMARY KEY (product_id, category_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_category_category
+    ON product_categories (category_id, product_id);
@@ -0,0 +1,18 @@
+#!/bin/sh
+#
+# Copyright 2025 Aryan Singh
+# Developer: Aryan Singh (@singhtwenty2)
+# Portfolio: https://singhtwenty2.pages.dev/
+# This file is part of SSEW E-commerce Backend System
+# Licensed under MIT License
+# For commercial use and inquiries: aryansingh.corp@gmail.com
+# @author Aryan Singh (@singhtwenty2)
+# @project SSEW E-commerce Backend System
+# @since 2025
+#
+set -e
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" \
+  -c "CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD '${POSTGRES_REPLICATION_PASSWORD}'"
+
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.benchmarks;
+
+import com.singhtwenty2.commerce_service.data.entity.Category;
+import com.singhtwenty2.commerce_service.data.entity.CompatibilityBrand;
+import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
+import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.data.entity.ProductImage;
+import com.singhtwenty2.commerce_service.service.file_handeling.S3Service;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.PreSignedUrlDTO.PresignedUrlResponse;
+
+final class BenchmarkFixtures {
+
+    private static final String PRESIGNED_URL = "https://ssew-assets.s3.ap-south-1.amazonaws.com/%s" +
+                                                "?X-Amz-Algorithm=AWS4-HMAC-SHA256&X-Amz-Expires=3600&X-Amz-Signature=0f3c";
+
+    private BenchmarkFixtures() {
+    }
+
+    static S3Service presigningS3Service() {
+        return (S3Service) Proxy.newProxyInstance(
+                S3Service.class.getClassLoader(),
+                new Class<?>[]{S3Service.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "imageExists" -> true;
+                    case "presignReadUrl" -> PRESIGNED_URL.formatted(args[0]);
+                    case "generateReadPresignedUrl" -> PresignedUrlResponse.builder()
+                            .presignedUrl(PRESIGNED_URL.formatted(args[0]))
+                            .objectKey((String) args[0])
+                            .expiresIn(3600)
+                            .build();
+                    case "toString" -> "PresigningS3Service";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static Manufacturer manufacturer() {
+        Manufacturer manufacturer = new Manufacturer();
+        manufacturer.setId(UUID.randomUUID());
+        manufacturer.setName("Bosch Professional");
+        manufacturer.setSlug("bosch-professional");
+        for (String name : new String[]{"Power Tools", "Accessories", "Spare Parts"}) {
+            Category category = new Category();
+            category.setId(UUID.randomUUID());
+            category.setName(name);
+            manufacturer.getCategories().add(category);
+        }
+        return manufacturer;
+    }
+
+    static Product standaloneProduct(Manufacturer manufacturer) {
+        Product product = product(manufacturer, "GSB 600 Impact Drill 13mm", "SSEW-BOS-000142");
+        for (String name : new String[]{"Makita", "DeWalt"}) {
+            CompatibilityBrand brand = new CompatibilityBrand();
+            brand.setId(UUID.randomUUID());
+            brand.setName(name);
+            brand.setSlug(name.toLowerCase());
+            product.addCompatibilityBrand(brand);
+        }
+        return product;
+    }
+
+    static Product parentProduct(Manufacturer manufacturer, int variants) {
+        Product parent = product(manufacturer, "GWS 750 Angle Grinder", "SSEW-BOS-000200");
+        for (int i = 1; i <= variants; i++) {
+            parent.addVariant(product(manufacturer, "GWS 750 Angle Grinder - " + (100 + i * 25) + "mm", "SSEW-BOS-00020" + i));
+        }
+        return parent;
+    }
+
+    static Map<String, String> specifications() {
+        Map<String, String> specifications = new LinkedHashMap<>();
+        specifications.put("voltage", "230V");
+        specifications.put("power", "600W");
+        specifications.put("chuck_size", "13mm");
+        specifications.put("no_load_speed", "0-3000 rpm");
+        specifications.put("weight", "1.8kg");
+        specifications.put("warranty", "1 year");
+        return specifications;
+    }
+
+    private static Product product(Manufacturer manufacturer, String name, String sku) {
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setCreatedAt(LocalDateTime.now().minusDays(30));
+        product.setUpdatedAt(LocalDateTime.now());
+        product.setName(name);
+        product.setSlug(name.toLowerCase().replaceAll("[^a-z0-9]+", "-"));
+        product.setSku(sku);
+        product.setModelNumber(sku.substring(5));
+        product.setShortDescription("Professional grade " + name + " for trade use");
+        product.setDescription("Professional grade " + name + " with a durable motor, ergonomic grip and a two year warranty.");
+        product.setSpecifications(specifications());
+        product.setPrice(new BigDecimal("4599.00"));
+        product.setCompareAtPrice(new BigDecimal("5299.00"));
+        product.setCostPrice(new BigDecimal("3450.00"));
+        product.setManufacturer(manufacturer);
+        product.setThumbnailObjectKey("products/" + product.getId() + "/thumbnail.webp");
+        product.setThumbnailFileSize(24_576L);
+        product.setThumbnailContentType("image/webp");
+        product.setThumbnailWidth(400);
+        product.setThumbnailHeight(400);
+        for (int position = 1; position <= 3; position++) {
+            ProductImage image = new ProductImage();
+            image.setId(UUID.randomUUID());
+            image.setObjectKey("products/" + product.getId() + "/image-" + position + ".webp");
+            image.setFileSize(180_000L);
+            image.setContentType("image/webp");
+            image.setWidth(1200);
+            image.setHeight(1200);
+            image.setAltText(name);
+            image.setIsPrimary(position == 1);
+            product.addProductImage(image);
+        }
+        return product;
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.benchmarks;
+
+import com.singhtwenty2.commerce_service.data.enums.UserRole;
+import com.singhtwenty2.commerce_service.service.impls.JwtServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtServiceImpl jwtService;
+    private String userId;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        jwtService = new JwtServiceImpl(Base64.getEncoder().encodeToString(secret), 900_000, 2_592_000_000L);
+        userId = UUID.randomUUID().toString();
+        accessToken = jwtService.generateAccessToken(userId, UserRole.USER.name());
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(userId, UserRole.USER.name());
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtService.validateAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public String getUserIdFromAccessToken() {
+        return jwtService.getUserIdFromAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public UserRole getUserRoleFromAccessToken() {
+        return jwtService.getUserRoleFromAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.benchmarks;
+
+import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
+import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.ProductMappingService;
+import com.singhtwenty2.commerce_service.util.sanitizer.SpecificationSanitizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMappingBenchmark {
+
+    private ProductMappingService productMappingService;
+    private Product standaloneProduct;
+    private Product parentProduct;
+    private List<String> categoryNames;
+    private List<CompatibilityBrandInfo> compatibilityBrands;
+
+    @Setup
+    public void setUp() {
+        productMappingService = new ProductMappingService(BenchmarkFixtures.presigningS3Service(), new SpecificationSanitizer());
+        Manufacturer manufacturer = BenchmarkFixtures.manufacturer();
+        standaloneProduct = BenchmarkFixtures.standaloneProduct(manufacturer);
+        parentProduct = BenchmarkFixtures.parentProduct(manufacturer, 4);
+        categoryNames = standaloneProduct.getCategoryNames();
+        compatibilityBrands = standaloneProduct.getCompatibilityBrands().stream()
+                .map(brand -> CompatibilityBrandInfo.builder()
+                        .compatibilityBrandId(brand.getId().toString())
+                        .name(brand.getName())
+                        .slug(brand.getSlug())
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public ProductSummary mapProductToSummary() {
+        return productMappingService.mapProductToSummary(standaloneProduct, standaloneProduct.getManufacturerName(),
+                categoryNames, compatibilityBrands, 0);
+    }
+
+    @Benchmark
+    public ProductResponse mapProductToResponse() {
+        return productMappingService.mapProductToResponse(standaloneProduct, false);
+    }
+
+    @Benchmark
+    public ProductResponse mapParentProductToResponseWithVariants() {
+        return productMappingService.mapProductToResponse(parentProduct, true);
+    }
+}
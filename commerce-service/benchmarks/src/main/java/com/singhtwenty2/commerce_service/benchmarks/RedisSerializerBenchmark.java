@@ -0,0 +1,118 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.benchmarks;
+
+import com.singhtwenty2.commerce_service.config.RedisConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.singhtwenty2.commerce_service.data.dto.search.GlobalSearchDTO.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisSerializerBenchmark {
+
+    @Param({"10", "50"})
+    private int productCount;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private GlobalSearchResponse response;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = new RedisConfig().redisSerializer();
+
+        List<ProductSearchResult> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            products.add(ProductSearchResult.builder()
+                    .productId(UUID.randomUUID().toString())
+                    .name("Bosch GSB 600 Impact Drill " + i)
+                    .slug("bosch-gsb-600-impact-drill-" + i)
+                    .sku("SSEW-BOS-" + String.format("%06d", i))
+                    .shortDescription("Professional grade impact drill for masonry, wood and steel")
+                    .price(new BigDecimal("4599.00"))
+                    .compareAtPrice(new BigDecimal("5299.00"))
+                    .thumbnailUrl("https://ssew-assets.s3.ap-south-1.amazonaws.com/products/" + i + "/thumbnail.webp")
+                    .manufacturerName("Bosch Professional")
+                    .categoryNames(List.of("Power Tools", "Accessories"))
+                    .isActive(true)
+                    .isFeatured(i % 5 == 0)
+                    .variantType("STANDALONE")
+                    .variantCount(0)
+                    .build());
+        }
+
+        List<ManufacturerSearchResult> manufacturers = new ArrayList<>();
+        List<CategorySearchResult> categories = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            manufacturers.add(ManufacturerSearchResult.builder()
+                    .manufacturerId(UUID.randomUUID().toString())
+                    .name("Manufacturer " + i)
+                    .slug("manufacturer-" + i)
+                    .description("Tools and accessories")
+                    .categoryNames(List.of("Power Tools"))
+                    .productCount(120L + i)
+                    .isActive(true)
+                    .build());
+            categories.add(CategorySearchResult.builder()
+                    .categoryId(UUID.randomUUID().toString())
+                    .name("Category " + i)
+                    .slug("category-" + i)
+                    .description("Industrial category")
+                    .manufacturerCount(12L + i)
+                    .isActive(true)
+                    .build());
+        }
+
+        response = GlobalSearchResponse.builder()
+                .products(products)
+                .manufacturers(manufacturers)
+                .categories(categories)
+                .metadata(SearchMetadata.builder()
+                        .totalProducts(products.size())
+                        .totalManufacturers(manufacturers.size())
+                        .totalCategories(categories.size())
+                        .totalResults(products.size() + manufacturers.size() + categories.size())
+                        .searchTimeMs(12L)
+                        .searchTerm("drill")
+                        .fromCache(false)
+                        .build())
+                .build();
+        serialized = serializer.serialize(response);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(response);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return serializer.deserialize(serializer.serialize(response));
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.benchmarks;
+
+import com.singhtwenty2.commerce_service.util.slug.SlugGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlugGeneratorBenchmark {
+
+    @Param({
+            "Bosch GSB 600 Impact Drill",
+            "Makita Schlagbohrmaschine für Beton & Stahl – Profi Édition",
+            "Stanley FatMax 24 Piece Socket Set with Ratchet, Extension Bars, Universal Joint and Carry Case (Chrome Vanadium)"
+    })
+    private String input;
+
+    private SlugGenerator slugGenerator;
+
+    @Setup
+    public void setUp() {
+        slugGenerator = new SlugGenerator();
+    }
+
+    @Benchmark
+    public String generateSlug() {
+        return slugGenerator.generateSlug(input);
+    }
+}
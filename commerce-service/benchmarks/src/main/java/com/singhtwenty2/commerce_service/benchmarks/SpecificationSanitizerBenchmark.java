@@ -0,0 +1,50 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.benchmarks;
+
+import com.singhtwenty2.commerce_service.util.sanitizer.SpecificationSanitizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecificationSanitizerBenchmark {
+
+    @Param({"6", "24"})
+    private int specificationCount;
+
+    private SpecificationSanitizer specificationSanitizer;
+    private Map<String, String> specifications;
+
+    @Setup
+    public void setUp() {
+        specificationSanitizer = new SpecificationSanitizer();
+        specifications = new LinkedHashMap<>();
+        String[] keys = {"Rated Voltage (V)", "Power Input", "No-Load Speed", "Chuck Size", "Net Weight*", "Warranty Period"};
+        String[] values = {"230 V", "600  W", "0 - 3000   rpm", "13 mm", " 1.8 kg ", "1   year"};
+        for (int i = 0; i < specificationCount; i++) {
+            specifications.put(keys[i % keys.length] + (i >= keys.length ? " " + i : ""), values[i % values.length]);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> sanitizeSpecifications() {
+        return specificationSanitizer.sanitizeSpecifications(specifications);
+    }
+}
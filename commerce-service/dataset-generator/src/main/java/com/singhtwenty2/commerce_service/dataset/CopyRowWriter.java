@@ -0,0 +1,78 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.dataset;
+
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+final class CopyRowWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final PGCopyOutputStream copyStream;
+    private final Writer writer;
+    private boolean firstColumn = true;
+    private long rows;
+
+    CopyRowWriter(CopyManager copyManager, String table, String columns) throws SQLException {
+        this.copyStream = new PGCopyOutputStream(copyManager.copyIn("COPY " + table + " (" + columns + ") FROM STDIN"), BUFFER_SIZE);
+        this.writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    CopyRowWriter column(Object value) throws IOException {
+        if (!firstColumn) {
+            writer.write('\t');
+        }
+        firstColumn = false;
+        if (value == null) {
+            writer.write("\\N");
+        } else {
+            escape(value.toString());
+        }
+        return this;
+    }
+
+    void endRow() throws IOException {
+        writer.write('\n');
+        firstColumn = true;
+        rows++;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void escape(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> writer.write("\\\\");
+                case '\t' -> writer.write("\\t");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                default -> writer.write(c);
+            }
+        }
+    }
+}
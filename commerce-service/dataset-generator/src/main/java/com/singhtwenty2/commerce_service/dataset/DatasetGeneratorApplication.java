@@ -0,0 +1,37 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.dataset;
+
+import com.singhtwenty2.commerce_service.config.ReadReplicaProperties;
+import com.singhtwenty2.commerce_service.data.entity.ProductCategory;
+import com.singhtwenty2.commerce_service.data.repository.ProductCategoryRepository;
+import com.singhtwenty2.commerce_service.security.EncoderService;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.CatalogueGenerationService;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.ProductCategoryService;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@SpringBootApplication
+@EntityScan(basePackageClasses = ProductCategory.class)
+@EnableJpaRepositories(basePackageClasses = ProductCategoryRepository.class)
+@Import({EncoderService.class, ProductCategoryService.class, CatalogueGenerationService.class, ReadReplicaProperties.class})
+public class DatasetGeneratorApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(DatasetGeneratorApplication.class)
+                .properties("spring.config.name=dataset-generator")
+                .run(args);
+    }
+}
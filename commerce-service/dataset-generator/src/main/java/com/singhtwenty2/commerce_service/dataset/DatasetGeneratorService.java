@@ -0,0 +1,679 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.dataset;
+
+import com.singhtwenty2.commerce_service.security.EncoderService;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.CatalogueGenerationService;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.ProductCategoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGeneratorService implements ApplicationRunner {
+
+    private static final String SKU_PREFIX = "SYN-";
+    private static final String[] SEEDED_TABLES = {
+            "categories", "manufacturers", "manufacturer_categories", "compatibility_brands", "products",
+            "product_images", "product_compatibility_brands", "users", "orders", "order_items", "carts", "cart_items"
+    };
+    private static final String[] CATEGORY_NAMES = {
+            "Power Tools", "Hand Tools", "Measuring Tools", "Cutting Tools", "Welding Equipment", "Air Compressors",
+            "Generators", "Pumps", "Motors", "Cables and Wires", "Switchgear", "Lighting", "Fasteners", "Abrasives",
+            "Safety Equipment", "Garden Tools", "Spare Parts", "Batteries and Chargers", "Drill Bits", "Lubricants"
+    };
+    private static final String[] MANUFACTURER_PREFIXES = {
+            "Apex", "Bolt", "Crest", "Delta", "Forge", "Granite", "Helix", "Iron", "Jet", "Kestrel", "Lumen", "Meridian",
+            "Nova", "Orbit", "Pioneer", "Quartz", "Ridge", "Summit", "Titan", "Vector"
+    };
+    private static final String[] MANUFACTURER_SUFFIXES = {"Tools", "Industries", "Power", "Engineering", "Works"};
+    private static final String[] PRODUCT_NOUNS = {
+            "Angle Grinder", "Impact Drill", "Rotary Hammer", "Circular Saw", "Jigsaw", "Heat Gun", "Blower",
+            "Marble Cutter", "Planer", "Router", "Screwdriver", "Spanner Set", "Socket Set", "Multimeter",
+            "Submersible Pump", "Monoblock Pump", "Welding Machine", "Inverter", "Chain Saw", "Hedge Trimmer"
+    };
+    private static final String[] VARIANT_LABELS = {"Kit", "Bare Tool", "18V", "12V", "Heavy Duty", "Compact", "Pro", "Combo"};
+    private static final String[][] SPECIFICATION_POOLS = {
+            {"voltage", "230V", "18V", "12V", "110V"},
+            {"power", "500W", "750W", "1000W", "1400W", "2000W"},
+            {"weight", "1.2kg", "1.8kg", "2.5kg", "3.4kg", "5kg"},
+            {"warranty", "6 months", "1 year", "2 years"},
+            {"chuck_size", "10mm", "13mm", "16mm"},
+            {"speed", "2800rpm", "3000rpm", "11000rpm", "12000rpm"},
+            {"disc_diameter", "100mm", "115mm", "125mm", "180mm"},
+            {"material", "Steel", "Aluminium", "Carbon Steel", "Chrome Vanadium"}
+    };
+    private static final String[] FIRST_NAMES = {
+            "Aarav", "Vivaan", "Aditya", "Ishaan", "Rohan", "Priya", "Ananya", "Kavya", "Sneha", "Meera",
+            "Rahul", "Vikram", "Neha", "Pooja", "Arjun", "Sanjay", "Divya", "Karan", "Nisha", "Amit"
+    };
+    private static final String[] LAST_NAMES = {
+            "Sharma", "Verma", "Singh", "Patel", "Gupta", "Reddy", "Iyer", "Nair", "Das", "Mehta",
+            "Joshi", "Kulkarni", "Chopra", "Malhotra", "Bose"
+    };
+    private static final String[][] CITIES = {
+            {"Mumbai", "Maharashtra", "400"}, {"Pune", "Maharashtra", "411"}, {"Delhi", "Delhi", "110"},
+            {"Bengaluru", "Karnataka", "560"}, {"Chennai", "Tamil Nadu", "600"}, {"Hyderabad", "Telangana", "500"},
+            {"Kolkata", "West Bengal", "700"}, {"Ahmedabad", "Gujarat", "380"}, {"Jaipur", "Rajasthan", "302"},
+            {"Lucknow", "Uttar Pradesh", "226"}
+    };
+    private static final String[] STREETS = {"MG Road", "Station Road", "Industrial Area", "Market Yard", "Ring Road", "Link Road"};
+
+    private final DataSource dataSource;
+    private final DatasetProperties properties;
+    private final EncoderService encoderService;
+    private final ProductCategoryService productCategoryService;
+    private final CatalogueGenerationService catalogueGenerationService;
+    private final ConfigurableApplicationContext applicationContext;
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (environment.matchesProfiles("prod", "staging")) {
+            throw new IllegalStateException("Refusing to generate a synthetic dataset with the prod or staging profile active");
+        }
+
+        long startedAt = System.nanoTime();
+        log.info("Generating synthetic dataset: {} products, {} users, {} orders, {} carts",
+                properties.getProducts(), properties.getUsers(), properties.getOrders(), properties.getCarts());
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                prepare(connection);
+                load(connection.unwrap(PGConnection.class).getCopyAPI());
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            }
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                for (String table : SEEDED_TABLES) {
+                    statement.execute("ANALYZE " + table);
+                }
+            }
+        }
+
+        productCategoryService.reconcile();
+        catalogueGenerationService.bump();
+        log.info("Synthetic dataset generated in {}s", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt));
+
+        if (properties.isExitOnCompletion()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    private void prepare(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL synchronous_commit TO OFF");
+            if (properties.isTruncate()) {
+                log.warn("Truncating catalogue, user, order and cart tables before loading");
+                statement.execute("TRUNCATE TABLE product_categories, " + String.join(", ", SEEDED_TABLES) + " CASCADE");
+                return;
+            }
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT EXISTS (SELECT 1 FROM products WHERE sku LIKE '" + SKU_PREFIX + "%')")) {
+                if (resultSet.next() && resultSet.getBoolean(1)) {
+                    throw new IllegalStateException("A synthetic dataset is already loaded; rerun with app.dataset.truncate=true");
+                }
+            }
+        }
+    }
+
+    private void load(CopyManager copyManager) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Dataset dataset = new Dataset(now, properties.getHistoryDays() * 86_400L);
+
+        loadCategories(copyManager, dataset, random);
+        loadManufacturers(copyManager, dataset, random);
+        loadCompatibilityBrands(copyManager, dataset, random);
+        loadProducts(copyManager, dataset, random);
+        loadProductImages(copyManager, dataset, random);
+        loadProductCompatibilityBrands(copyManager, dataset, random);
+        loadUsers(copyManager, dataset, random);
+        loadOrders(copyManager, dataset);
+        loadOrderItems(copyManager, dataset);
+        loadCarts(copyManager, dataset, random);
+    }
+
+    private void loadCategories(CopyManager copyManager, Dataset dataset, SplittableRandom random)
+            throws SQLException, IOException {
+        int count = properties.getCategories();
+        dataset.categoryIds = new UUID[count];
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "categories",
+                "id, created_at, updated_at, version, name, slug, description, display_order, is_active")) {
+            for (int i = 0; i < count; i++) {
+                String name = numbered(CATEGORY_NAMES, i);
+                UUID id = uuid(random);
+                dataset.categoryIds[i] = id;
+                LocalDateTime createdAt = dataset.pastTimestamp(random);
+                rows.column(id).column(createdAt).column(createdAt).column(0)
+                        .column(name).column(slugOf(name, i)).column(name + " for trade and industrial use")
+                        .column(i).column(true);
+                rows.endRow();
+            }
+            log.info("Loaded {} categories", rows.rows());
+        }
+    }
+
+    private void loadManufacturers(CopyManager copyManager, Dataset dataset, SplittableRandom random)
+            throws SQLException, IOException {
+        int count = properties.getManufacturers();
+        int categoryCount = dataset.categoryIds.length;
+        dataset.manufacturerIds = new UUID[count];
+        dataset.manufacturerNames = new String[count];
+        dataset.manufacturerCategories = new int[count][];
+
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "manufacturers",
+                "id, created_at, updated_at, version, name, slug, description, website_url, display_order, is_active")) {
+            for (int i = 0; i < count; i++) {
+                String name = MANUFACTURER_PREFIXES[i % MANUFACTURER_PREFIXES.length] + " "
+                              + MANUFACTURER_SUFFIXES[(i / MANUFACTURER_PREFIXES.length) % MANUFACTURER_SUFFIXES.length]
+                              + (i >= MANUFACTURER_PREFIXES.length * MANUFACTURER_SUFFIXES.length
+                        ? " " + (i / (MANUFACTURER_PREFIXES.length * MANUFACTURER_SUFFIXES.length) + 1) : "");
+                UUID id = uuid(random);
+                dataset.manufacturerIds[i] = id;
+                dataset.manufacturerNames[i] = name;
+                dataset.manufacturerCategories[i] = distinctIndexes(random, i % categoryCount, 1 + random.nextInt(3), categoryCount);
+                LocalDateTime createdAt = dataset.pastTimestamp(random);
+                String slug = slugOf(name, i);
+                rows.column(id).column(createdAt).column(createdAt).column(0)
+                        .column(name).column(slug).column("Synthetic manufacturer " + name)
+                        .column("https://" + slug + ".example.com").column(i).column(random.nextInt(50) != 0);
+                rows.endRow();
+            }
+            log.info("Loaded {} manufacturers", rows.rows());
+        }
+
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "manufacturer_categories", "manufacturer_id, category_id")) {
+            for (int i = 0; i < count; i++) {
+                for (int category : dataset.manufacturerCategories[i]) {
+                    rows.column(dataset.manufacturerIds[i]).column(dataset.categoryIds[category]);
+                    rows.endRow();
+                }
+            }
+        }
+    }
+
+    private void loadCompatibilityBrands(CopyManager copyManager, Dataset dataset, SplittableRandom random)
+            throws SQLException, IOException {
+        int count = properties.getCompatibilityBrands();
+        dataset.brandIds = new UUID[count];
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "compatibility_brands",
+                "id, created_at, updated_at, version, name, slug")) {
+            for (int i = 0; i < count; i++) {
+                String name = numbered(MANUFACTURER_PREFIXES, i) + " Compatible";
+                UUID id = uuid(random);
+                dataset.brandIds[i] = id;
+                LocalDateTime createdAt = dataset.pastTimestamp(random);
+                rows.column(id).column(createdAt).column(createdAt).column(0).column(name).column(slugOf(name, i));
+                rows.endRow();
+            }
+            log.info("Loaded {} compatibility brands", rows.rows());
+        }
+    }
+
+    private void loadProducts(CopyManager copyManager, Dataset dataset, SplittableRandom random)
+            throws SQLException, IOException {
+        int total = properties.getProducts();
+        dataset.productIds = new UUID[total];
+        dataset.productNames = new String[total];
+        dataset.productSkus = new String[total];
+        dataset.productPrices = new BigDecimal[total];
+        dataset.productManufacturers = new int[total];
+        dataset.productFamilies = new boolean[total];
+        dataset.productCreatedAt = new LocalDateTime[total];
+        List<Integer> sellable = new ArrayList<>(total);
+        ZipfSampler manufacturerSampler = new ZipfSampler(dataset.manufacturerIds.length, properties.getPopularitySkew());
+
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "products",
+                "id, created_at, updated_at, version, name, slug, sku, model_number, description, short_description, " +
+                "specifications, price, compare_at_price, cost_price, is_active, is_featured, display_order, " +
+                "meta_title, search_tags, manufacturer_id, parent_product_id, variant_type, variant_position")) {
+            int index = 0;
+            while (index < total) {
+                int manufacturer = manufacturerSampler.sample(random);
+                int[] categories = dataset.manufacturerCategories[manufacturer];
+                int category = categories[random.nextInt(categories.length)];
+                String noun = PRODUCT_NOUNS[random.nextInt(PRODUCT_NOUNS.length)];
+                String modelNumber = noun.substring(0, 2).toUpperCase() + "-" + index;
+                String name = dataset.manufacturerNames[manufacturer] + " " + noun + " " + modelNumber;
+                BigDecimal basePrice = BigDecimal.valueOf(149 + Math.exp(random.nextDouble() * 7.5)).setScale(2, RoundingMode.HALF_UP);
+                LocalDateTime createdAt = dataset.pastTimestamp(random);
+
+                int remaining = total - index;
+                int variants = remaining > 2 && random.nextDouble() < properties.getParentRatio()
+                        ? Math.min(2 + random.nextInt(Math.max(1, properties.getMaxVariants() - 1)), remaining - 1)
+                        : 0;
+
+                int parent = index;
+                writeProduct(rows, dataset, random, index++, manufacturer, category, name, modelNumber, basePrice,
+                        createdAt, null, variants > 0 ? "PARENT" : "STANDALONE", null);
+                dataset.productFamilies[parent] = true;
+                if (variants == 0) {
+                    sellable.add(parent);
+                }
+                for (int position = 1; position <= variants; position++) {
+                    String label = VARIANT_LABELS[(position - 1) % VARIANT_LABELS.length];
+                    BigDecimal price = basePrice.multiply(BigDecimal.valueOf(1 + 0.08 * (position - 1))).setScale(2, RoundingMode.HALF_UP);
+                    sellable.add(index);
+                    writeProduct(rows, dataset, random, index++, manufacturer, category, name + " - " + label,
+                            modelNumber + "-" + position, price, createdAt, dataset.productIds[parent], "VARIANT", position);
+                }
+            }
+            log.info("Loaded {} products ({} sellable)", rows.rows(), sellable.size());
+        }
+
+        dataset.sellableByPopularity = shuffled(sellable, random);
+        dataset.productSampler = new ZipfSampler(dataset.sellableByPopularity.length, properties.getPopularitySkew());
+    }
+
+    private void writeProduct(CopyRowWriter rows, Dataset dataset, SplittableRandom random, int index, int manufacturer,
+                              int category, String name, String modelNumber, BigDecimal price, LocalDateTime createdAt,
+                              UUID parentId, String variantType, Integer variantPosition) throws IOException {
+        UUID id = uuid(random);
+        String sku = SKU_PREFIX + String.format("%08d", index);
+        dataset.productIds[index] = id;
+        dataset.productNames[index] = name;
+        dataset.productSkus[index] = sku;
+        dataset.productPrices[index] = price;
+        dataset.productManufacturers[index] = manufacturer;
+        dataset.productCreatedAt[index] = createdAt;
+
+        BigDecimal compareAtPrice = random.nextInt(10) < 3
+                ? price.multiply(BigDecimal.valueOf(1.15)).setScale(2, RoundingMode.HALF_UP) : null;
+        rows.column(id).column(createdAt).column(createdAt).column(0)
+                .column(name).column(slugOf(name, index)).column(sku).column(modelNumber)
+                .column("Synthetic product " + name + " generated for load testing.")
+                .column(name).column(specificationsJson(random, category))
+                .column(price).column(compareAtPrice).column(price.multiply(BigDecimal.valueOf(0.7)).setScale(2, RoundingMode.HALF_UP))
+                .column(random.nextInt(100) >= 3).column(random.nextInt(100) < 2).column(0)
+                .column(name).column(dataset.manufacturerNames[manufacturer].toLowerCase())
+                .column(dataset.manufacturerIds[manufacturer]).column(parentId).column(variantType).column(variantPosition);
+        rows.endRow();
+    }
+
+    private void loadProductImages(CopyManager copyManager, Dataset dataset, SplittableRandom random)
+            throws SQLException, IOException {
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "product_images",
+                "id, created_at, updated_at, version, object_key, file_size, content_type, width, height, alt_text, " +
+                "display_order, is_primary, product_id")) {
+            for (int product = 0; product < dataset.productIds.length; product++) {
+                int images = dataset.productFamilies[product] ? properties.getImagesPerProduct() : 1;
+                for (int position = 1; position <= images; position++) {
+                    LocalDateTime createdAt = dataset.productCreatedAt[product];
+                    rows.column(uuid(random)).column(createdAt).column(createdAt).column(0)
+                            .column("products/" + dataset.productIds[product] + "/image-" + position + ".webp")
+                            .column(40_000L + random.nextInt(400_000)).column("image/webp").column(1200).column(1200)
+                            .column(dataset.productNames[product]).column(position).column(position == 1)
+                            .column(dataset.productIds[product]);
+                    rows.endRow();
+                }
+            }
+            log.info("Loaded {} product images", rows.rows());
+        }
+    }
+
+    private void loadProductCompatibilityBrands(CopyManager copyManager, Dataset dataset, SplittableRandom random)
+            throws SQLException, IOException {
+        int brandCount = dataset.brandIds.length;
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "product_compatibility_brands",
+                "product_id, compatibility_brand_id")) {
+            for (int product = 0; product < dataset.productIds.length; product++) {
+                if (!dataset.productFamilies[product]) {
+                    continue;
+                }
+                for (int brand : distinctIndexes(random, random.nextInt(brandCount), random.nextInt(4), brandCount)) {
+                    rows.column(dataset.productIds[product]).column(dataset.brandIds[brand]);
+                    rows.endRow();
+                }
+            }
+            log.info("Loaded {} product compatibility links", rows.rows());
+        }
+    }
+
+    private void loadUsers(CopyManager copyManager, Dataset dataset, SplittableRandom random)
+            throws SQLException, IOException {
+        int count = properties.getUsers();
+        String passwordHash = encoderService.encode("Synthetic@123");
+        dataset.userIds = new UUID[count];
+        dataset.userNames = new String[count];
+        dataset.userMobiles = new String[count];
+
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "users",
+                "id, created_at, updated_at, version, name, mobile_number, email, password, role, is_email_verified, " +
+                "is_mobile_verified, is_account_locked, failed_login_attempts, is_active")) {
+            for (int i = 0; i < count; i++) {
+                UUID id = uuid(random);
+                String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                String mobile = "6" + String.format("%09d", i);
+                dataset.userIds[i] = id;
+                dataset.userNames[i] = name;
+                dataset.userMobiles[i] = mobile;
+                LocalDateTime createdAt = dataset.pastTimestamp(random);
+                rows.column(id).column(createdAt).column(createdAt).column(0)
+                        .column(name).column(mobile).column("user" + i + "@synthetic.example.com").column(passwordHash)
+                        .column("USER").column(false).column(true).column(false).column(0).column(true);
+                rows.endRow();
+            }
+            log.info("Loaded {} users", rows.rows());
+        }
+
+        dataset.usersByActivity = shuffled(indexes(count), random);
+        dataset.userSampler = new ZipfSampler(count, properties.getPopularitySkew());
+    }
+
+    private void loadOrders(CopyManager copyManager, Dataset dataset) throws SQLException, IOException {
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "orders",
+                "id, created_at, updated_at, version, user_id, customer_name, phone_number, order_type, street_address, " +
+                "city, state, pincode, full_address, status, total_amount, total_items, status_updated_at, cancelled_at, " +
+                "cancelled_by_admin")) {
+            for (int i = 0; i < properties.getOrders(); i++) {
+                OrderDraft order = draftOrder(dataset, i);
+                BigDecimal totalAmount = BigDecimal.ZERO;
+                int totalItems = 0;
+                for (int line = 0; line < order.products.length; line++) {
+                    totalAmount = totalAmount.add(dataset.productPrices[order.products[line]].multiply(BigDecimal.valueOf(order.quantities[line])));
+                    totalItems += order.quantities[line];
+                }
+                boolean delivery = order.city != null;
+                String fullAddress = delivery
+                        ? String.format("%s, %s, %s - %s", order.street, order.city, order.state, order.pincode)
+                        : "Pickup Order - No Address Required";
+                LocalDateTime updatedAt = order.status.equals("PLACED") ? order.createdAt : order.createdAt.plusHours(order.hoursToStatus);
+                rows.column(order.id).column(order.createdAt).column(updatedAt).column(0)
+                        .column(dataset.userIds[order.user]).column(dataset.userNames[order.user]).column(dataset.userMobiles[order.user])
+                        .column(delivery ? "DELIVERY" : "PICKUP").column(order.street).column(order.city).column(order.state)
+                        .column(order.pincode).column(fullAddress).column(order.status).column(totalAmount).column(totalItems)
+                        .column(order.status.equals("PLACED") ? null : updatedAt)
+                        .column(order.status.equals("CANCELLED") ? updatedAt : null).column(false);
+                rows.endRow();
+                logProgress("orders", rows.rows(), properties.getOrders());
+            }
+            log.info("Loaded {} orders", rows.rows());
+        }
+    }
+
+    private void loadOrderItems(CopyManager copyManager, Dataset dataset) throws SQLException, IOException {
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "order_items",
+                "id, created_at, updated_at, version, order_id, product_id, product_name, product_sku, manufacturer_name, " +
+                "quantity, unit_price, total_price")) {
+            for (int i = 0; i < properties.getOrders(); i++) {
+                OrderDraft order = draftOrder(dataset, i);
+                for (int line = 0; line < order.products.length; line++) {
+                    int product = order.products[line];
+                    BigDecimal unitPrice = dataset.productPrices[product];
+                    rows.column(uuid(order.random)).column(order.createdAt).column(order.createdAt).column(0)
+                            .column(order.id).column(dataset.productIds[product]).column(dataset.productNames[product])
+                            .column(dataset.productSkus[product]).column(dataset.manufacturerNames[dataset.productManufacturers[product]])
+                            .column(order.quantities[line]).column(unitPrice)
+                            .column(unitPrice.multiply(BigDecimal.valueOf(order.quantities[line])));
+                    rows.endRow();
+                }
+                logProgress("orders with items", i + 1L, properties.getOrders());
+            }
+            log.info("Loaded {} order items", rows.rows());
+        }
+    }
+
+    private void loadCarts(CopyManager copyManager, Dataset dataset, SplittableRandom random)
+            throws SQLException, IOException {
+        int count = Math.min(properties.getCarts(), dataset.userIds.length);
+        List<UUID> cartIds = new ArrayList<>();
+        List<LocalDateTime> cartCreatedAt = new ArrayList<>();
+
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "carts",
+                "id, created_at, updated_at, version, user_id, cart_type, is_active")) {
+            for (int i = 0; i < count; i++) {
+                int user = dataset.usersByActivity[i];
+                for (String cartType : i % 3 == 0 ? new String[]{"CART", "WISHLIST"} : new String[]{"CART"}) {
+                    UUID id = uuid(random);
+                    LocalDateTime createdAt = dataset.recentTimestamp(random);
+                    cartIds.add(id);
+                    cartCreatedAt.add(createdAt);
+                    rows.column(id).column(createdAt).column(createdAt).column(0)
+                            .column(dataset.userIds[user]).column(cartType).column(true);
+                    rows.endRow();
+                }
+            }
+            log.info("Loaded {} carts", rows.rows());
+        }
+
+        try (CopyRowWriter rows = new CopyRowWriter(copyManager, "cart_items",
+                "id, created_at, updated_at, version, cart_id, product_id, quantity, price_at_time")) {
+            for (int cart = 0; cart < cartIds.size(); cart++) {
+                int[] products = distinctProducts(dataset, random, 1 + random.nextInt(properties.getMaxCartItems()));
+                for (int product : products) {
+                    LocalDateTime createdAt = cartCreatedAt.get(cart);
+                    rows.column(uuid(random)).column(createdAt).column(createdAt).column(0)
+                            .column(cartIds.get(cart)).column(dataset.productIds[product])
+                            .column(1 + (random.nextInt(5) == 0 ? random.nextInt(3) : 0)).column(dataset.productPrices[product]);
+                    rows.endRow();
+                }
+            }
+            log.info("Loaded {} cart items", rows.rows());
+        }
+    }
+
+    private OrderDraft draftOrder(Dataset dataset, int index) {
+        SplittableRandom random = new SplittableRandom(properties.getSeed() * 0x9E3779B97F4A7C15L + index);
+        OrderDraft order = new OrderDraft();
+        order.random = random;
+        order.id = uuid(random);
+        order.user = dataset.usersByActivity[dataset.userSampler.sample(random)];
+
+        double recency = random.nextDouble();
+        long ageSeconds = (long) (dataset.historySeconds * recency * recency);
+        order.createdAt = dataset.now.minusSeconds(ageSeconds);
+
+        int lines = 1 + (int) (properties.getMaxItemsPerOrder() * Math.pow(random.nextDouble(), 2));
+        order.products = distinctProducts(dataset, random, Math.min(lines, properties.getMaxItemsPerOrder()));
+        order.quantities = new int[order.products.length];
+        for (int line = 0; line < order.quantities.length; line++) {
+            order.quantities[line] = random.nextInt(4) == 0 ? 2 + random.nextInt(4) : 1;
+        }
+
+        if (random.nextInt(100) < 85) {
+            String[] city = CITIES[random.nextInt(CITIES.length)];
+            order.street = (1 + random.nextInt(400)) + " " + STREETS[random.nextInt(STREETS.length)];
+            order.city = city[0];
+            order.state = city[1];
+            order.pincode = city[2] + String.format("%03d", random.nextInt(100));
+        }
+
+        int outcome = random.nextInt(100);
+        long ageDays = ageSeconds / 86_400;
+        if (outcome < 5) {
+            order.status = "CANCELLED";
+        } else if (outcome < 6) {
+            order.status = "OUT_OF_STOCK";
+        } else if (ageDays < 1) {
+            order.status = outcome < 50 ? "PLACED" : "CONFIRMED";
+        } else if (ageDays < 5) {
+            order.status = "SHIPPED";
+        } else {
+            order.status = "DELIVERED";
+        }
+        order.hoursToStatus = Math.min(ageSeconds / 3600, 2 + random.nextInt(96));
+        return order;
+    }
+
+    private int[] distinctProducts(Dataset dataset, SplittableRandom random, int count) {
+        int[] products = new int[count];
+        int filled = 0;
+        int attempts = 0;
+        while (filled < count && attempts++ < count * 10) {
+            int product = dataset.sellableByPopularity[dataset.productSampler.sample(random)];
+            boolean duplicate = false;
+            for (int i = 0; i < filled && !duplicate; i++) {
+                duplicate = products[i] == product;
+            }
+            if (!duplicate) {
+                products[filled++] = product;
+            }
+        }
+        return filled == count ? products : Arrays.copyOf(products, filled);
+    }
+
+    private String specificationsJson(SplittableRandom random, int category) {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 4; i++) {
+            String[] pool = SPECIFICATION_POOLS[(category + i) % SPECIFICATION_POOLS.length];
+            int value = 1 + Math.min(random.nextInt(pool.length - 1), random.nextInt(pool.length - 1));
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(pool[0]).append("\":\"").append(pool[value]).append('"');
+        }
+        return json.append('}').toString();
+    }
+
+    private void logProgress(String label, long done, long total) {
+        if (done % 250_000 == 0) {
+            log.info("Loaded {}/{} {}", done, total, label);
+        }
+    }
+
+    private static int[] distinctIndexes(SplittableRandom random, int first, int count, int bound) {
+        int size = Math.min(count, bound);
+        int[] indexes = new int[size];
+        int filled = 0;
+        int candidate = first;
+        while (filled < size) {
+            boolean duplicate = false;
+            for (int i = 0; i < filled && !duplicate; i++) {
+                duplicate = indexes[i] == candidate;
+            }
+            if (!duplicate) {
+                indexes[filled++] = candidate;
+            }
+            candidate = random.nextInt(bound);
+        }
+        return indexes;
+    }
+
+    private static List<Integer> indexes(int count) {
+        List<Integer> indexes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    private static int[] shuffled(List<Integer> values, SplittableRandom random) {
+        int[] shuffled = values.stream().mapToInt(Integer::intValue).toArray();
+        for (int i = shuffled.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = swap;
+        }
+        return shuffled;
+    }
+
+    private static String numbered(String[] names, int index) {
+        return names[index % names.length] + (index >= names.length ? " " + (index / names.length + 1) : "");
+    }
+
+    private static String slugOf(String name, int index) {
+        return name.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "") + "-" + index;
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        long mostSignificantBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long leastSignificantBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static final class Dataset {
+        private final LocalDateTime now;
+        private final long historySeconds;
+        private UUID[] categoryIds;
+        private UUID[] manufacturerIds;
+        private String[] manufacturerNames;
+        private int[][] manufacturerCategories;
+        private UUID[] brandIds;
+        private UUID[] productIds;
+        private String[] productNames;
+        private String[] productSkus;
+        private BigDecimal[] productPrices;
+        private int[] productManufacturers;
+        private boolean[] productFamilies;
+        private LocalDateTime[] productCreatedAt;
+        private int[] sellableByPopularity;
+        private ZipfSampler productSampler;
+        private UUID[] userIds;
+        private String[] userNames;
+        private String[] userMobiles;
+        private int[] usersByActivity;
+        private ZipfSampler userSampler;
+
+        private Dataset(LocalDateTime now, long historySeconds) {
+            this.now = now;
+            this.historySeconds = historySeconds;
+        }
+
+        private LocalDateTime pastTimestamp(SplittableRandom random) {
+            return now.minusSeconds(random.nextLong(historySeconds));
+        }
+
+        private LocalDateTime recentTimestamp(SplittableRandom random) {
+            return now.minusSeconds(random.nextLong(Math.min(historySeconds, 30 * 86_400L)));
+        }
+    }
+
+    private static final class OrderDraft {
+        private SplittableRandom random;
+        private UUID id;
+        private int user;
+        private LocalDateTime createdAt;
+        private int[] products;
+        private int[] quantities;
+        private String street;
+        private String city;
+        private String state;
+        private String pincode;
+        private String status;
+        private long hoursToStatus;
+    }
+}
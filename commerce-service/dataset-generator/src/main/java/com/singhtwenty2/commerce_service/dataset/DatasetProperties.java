@@ -0,0 +1,40 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.dataset;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.dataset")
+@Data
+public class DatasetProperties {
+
+    private long seed = 20250101L;
+    private boolean truncate = false;
+    private boolean exitOnCompletion = true;
+    private int categories = 40;
+    private int manufacturers = 400;
+    private int compatibilityBrands = 120;
+    private int products = 200_000;
+    private double parentRatio = 0.12;
+    private int maxVariants = 6;
+    private int imagesPerProduct = 3;
+    private int users = 100_000;
+    private int orders = 2_000_000;
+    private int maxItemsPerOrder = 4;
+    private int carts = 50_000;
+    private int maxCartItems = 6;
+    private double popularitySkew = 1.07;
+    private int historyDays = 730;
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.dataset;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Zipf sampler needs at least one rank");
+        }
+        cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
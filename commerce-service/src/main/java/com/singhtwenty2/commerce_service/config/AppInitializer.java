@@ -11,11 +11,13 @@
  */
 package com.singhtwenty2.commerce_service.config;
 
+import com.singhtwenty2.commerce_service.service.catalogue.helper.ProductCategoryService;
 import com.singhtwenty2.commerce_service.service.file_handeling.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -24,6 +26,8 @@ import org.springframework.stereotype.Component;
 public class AppInitializer implements ApplicationRunner {
 
     private final S3Service s3Service;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductCategoryService productCategoryService;
 
     @Override
     public void run(ApplicationArguments args) {
@@ -34,5 +38,56 @@ public class AppInitializer implements ApplicationRunner {
         } catch (Exception e) {
             log.error("Failed to initialize application: {}", e.getMessage(), e);
         }
+
+        try {
+            ensureSpecificationIndex();
+            log.info("Product specification index verified");
+        } catch (Exception e) {
+            log.error("Failed to create product specification index: {}", e.getMessage(), e);
+        }
+
+        try {
+            ensureListableProductIndex();
+            log.info("Listable product index verified");
+        } catch (Exception e) {
+            log.error("Failed to create listable product index: {}", e.getMessage(), e);
+        }
+
+        try {
+            productCategoryService.reconcile();
+        } catch (Exception e) {
+            log.error("Failed to reconcile product category membership: {}", e.getMessage(), e);
+        }
+    }
+
+    private void ensureSpecificationIndex() {
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION jsonb_lower(jsonb) RETURNS jsonb " +
+                             "LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE AS 'SELECT lower($1::text)::jsonb'");
+        createIndexConcurrently("idx_product_specifications_lower",
+                "ON products USING gin (jsonb_lower(specifications) jsonb_path_ops)");
+        jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS idx_product_specifications");
+    }
+
+    /**
+     * Lets category and brand EXISTS filters count matches from the index alone instead of
+     * scanning the products heap. variant_type is an INCLUDE column rather than part of the
+     * predicate because the query binds it as a parameter, which a generic plan cannot match
+     * against a partial index predicate.
+     */
+    private void ensureListableProductIndex() {
+        createIndexConcurrently("idx_product_listable",
+                "ON products (id) INCLUDE (variant_type) WHERE is_active");
+    }
+
+    private void createIndexConcurrently(String name, String definition) {
+        Boolean valid = jdbcTemplate.queryForObject(
+                "SELECT bool_and(indisvalid) FROM pg_index WHERE indexrelid = to_regclass(?)",
+                Boolean.class, name);
+        if (Boolean.FALSE.equals(valid)) {
+            log.warn("Dropping invalid index {} left by an interrupted build", name);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+        }
+
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " " + definition);
     }
 }
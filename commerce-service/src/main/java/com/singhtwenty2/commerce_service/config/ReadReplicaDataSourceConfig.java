@@ -0,0 +1,86 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.config;
+
+import com.singhtwenty2.commerce_service.config.datasource.DataSourceRoute;
+import com.singhtwenty2.commerce_service.config.datasource.ReadReplicaRoutingDataSource;
+import com.singhtwenty2.commerce_service.config.datasource.ReplicaHealthMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              ReadReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(replicaProperties.getUrl());
+        dataSource.setUsername(StringUtils.hasText(replicaProperties.getUsername()) ?
+                replicaProperties.getUsername() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(StringUtils.hasText(replicaProperties.getPassword()) ?
+                replicaProperties.getPassword() : dataSourceProperties.determinePassword());
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replicaProperties.getConnectionTimeout());
+        dataSource.setReadOnly(true);
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                     ReadReplicaProperties replicaProperties,
+                                                     MeterRegistry meterRegistry) {
+        return new ReplicaHealthMonitor(replicaDataSource, replicaProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaHealthMonitor replicaHealthMonitor,
+                                 MeterRegistry meterRegistry) {
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(replicaHealthMonitor, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primaryDataSource,
+                DataSourceRoute.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
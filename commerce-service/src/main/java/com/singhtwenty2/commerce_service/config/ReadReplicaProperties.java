@@ -0,0 +1,31 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Data
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    private long connectionTimeout = 2000;
+    private double maxLagSeconds = 5;
+    private long healthCheckInterval = 5000;
+}
@@ -91,6 +91,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/v1/products/slug/**").permitAll()              // Get product by slug
                         .requestMatchers(HttpMethod.GET, "/v1/products/sku/**").permitAll()               // Get product by SKU
                         .requestMatchers(HttpMethod.GET, "/v1/products/search").permitAll()               // Search products with filters
+                        .requestMatchers(HttpMethod.GET, "/v1/products/browse").permitAll()               // Browse products without total count
+                        .requestMatchers(HttpMethod.GET, "/v1/products/spec-facets").permitAll()          // Specification value distribution
                         .requestMatchers(HttpMethod.GET, "/v1/products/images").permitAll()               // Get product image presigned URL
                         .requestMatchers(HttpMethod.GET, "/v1/products/*/variants").permitAll()           // Get product variants
                         .requestMatchers(HttpMethod.GET, "/v1/products/**").permitAll()                   // Get product by ID
@@ -11,6 +11,7 @@
  */
 package com.singhtwenty2.commerce_service.config;
 
+import com.singhtwenty2.commerce_service.interceptor.CatalogueETagInterceptor;
 import com.singhtwenty2.commerce_service.interceptor.DeprecationInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -22,9 +23,12 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final DeprecationInterceptor deprecationInterceptor;
+    private final CatalogueETagInterceptor catalogueETagInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(deprecationInterceptor);
+        registry.addInterceptor(catalogueETagInterceptor)
+                .addPathPatterns("/v1/products/**", "/v1/categories/**", "/v1/manufacturers/**", "/v1/compatibility-brands/**");
     }
 }
\ No newline at end of file
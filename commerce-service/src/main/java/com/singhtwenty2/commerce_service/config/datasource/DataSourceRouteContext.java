@@ -0,0 +1,52 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.config.datasource;
+
+import java.util.function.Supplier;
+
+public class DataSourceRouteContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRouteContext() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(true);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_PINNED.set(previous);
+        }
+    }
+
+    public static void onPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(true);
+    }
+
+    public static void clearPin() {
+        PRIMARY_PINNED.remove();
+    }
+
+    public static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get();
+    }
+}
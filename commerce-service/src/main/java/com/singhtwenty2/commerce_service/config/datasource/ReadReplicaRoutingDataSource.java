@@ -0,0 +1,76 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaHealthMonitor replicaHealthMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReadReplicaRoutingDataSource(ReplicaHealthMonitor replicaHealthMonitor, MeterRegistry meterRegistry) {
+        this.replicaHealthMonitor = replicaHealthMonitor;
+        this.primaryCounter = routeCounter(meterRegistry, "primary");
+        this.replicaCounter = routeCounter(meterRegistry, "replica");
+        this.fallbackCounter = routeCounter(meterRegistry, "primary_fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        DataSource primary = getResolvedDefaultDataSource();
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            if (target == primary || primary == null) {
+                throw e;
+            }
+            replicaHealthMonitor.markUnavailable(e);
+            fallbackCounter.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() ||
+            DataSourceRouteContext.isPrimaryPinned()) {
+            primaryCounter.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+
+        if (replicaHealthMonitor.isReplicaAvailable()) {
+            replicaCounter.increment();
+            return DataSourceRoute.REPLICA;
+        }
+
+        fallbackCounter.increment();
+        return DataSourceRoute.PRIMARY;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out by the read replica routing data source")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.config.datasource;
+
+import com.singhtwenty2.commerce_service.config.ReadReplicaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    private static final String REPLICATION_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource replicaDataSource;
+    private final ReadReplicaProperties replicaProperties;
+
+    private volatile boolean replicaAvailable = false;
+    private volatile double lagSeconds = -1;
+
+    public ReplicaHealthMonitor(DataSource replicaDataSource, ReadReplicaProperties replicaProperties,
+                                MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.replicaProperties = replicaProperties;
+        Gauge.builder("datasource.replica.lag.seconds", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica, -1 when unreachable")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public void markUnavailable(Exception cause) {
+        if (replicaAvailable) {
+            log.warn("Read replica connection failed, routing read-only transactions to the primary: {}",
+                    cause.getMessage());
+        }
+        replicaAvailable = false;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval:5000}")
+    public void checkReplica() {
+        boolean available;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(2);
+            try (ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+                resultSet.next();
+                lagSeconds = resultSet.getDouble(1);
+            }
+            available = lagSeconds <= replicaProperties.getMaxLagSeconds();
+        } catch (Exception e) {
+            lagSeconds = -1;
+            available = false;
+            if (replicaAvailable) {
+                log.warn("Read replica health check failed: {}", e.getMessage());
+            }
+        }
+
+        if (available != replicaAvailable) {
+            log.info("Read replica {} (lag {}s), read-only transactions now use the {}",
+                    available ? "available" : "unavailable", lagSeconds, available ? "replica" : "primary");
+        }
+        replicaAvailable = available;
+    }
+}
@@ -11,6 +11,7 @@
  */
 package com.singhtwenty2.commerce_service.controller.catalogue;
 
+import com.singhtwenty2.commerce_service.annotation.ConditionalGet;
 import com.singhtwenty2.commerce_service.data.dto.catalogue.CategoryDTO.CategoryResponse;
 import com.singhtwenty2.commerce_service.data.dto.catalogue.CategoryDTO.CreateCategoryRequest;
 import com.singhtwenty2.commerce_service.data.dto.catalogue.CategoryDTO.UpdateCategoryRequest;
@@ -66,6 +67,7 @@ public class CategoryController {
     }
 
     @GetMapping("/{categoryId}")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<CategoryResponse>> getCategoryById(
             @PathVariable String categoryId,
             HttpServletRequest request
@@ -84,6 +86,7 @@ public class CategoryController {
     }
 
     @GetMapping("/slug/{slug}")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<CategoryResponse>> getCategoryBySlug(
             @PathVariable String slug,
             HttpServletRequest request
@@ -102,6 +105,7 @@ public class CategoryController {
     }
 
     @GetMapping
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<PageResponse<CategoryResponse>>> getAllCategories(
             @RequestParam(defaultValue = "0") int index,
             @RequestParam(defaultValue = "10") int limit,
@@ -128,6 +132,7 @@ public class CategoryController {
     }
 
     @GetMapping("/active")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<PageResponse<CategoryResponse>>> getActiveCategories(
             @RequestParam(defaultValue = "0") int index,
             @RequestParam(defaultValue = "10") int limit,
@@ -154,6 +159,7 @@ public class CategoryController {
     }
 
     @GetMapping("/search")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<PageResponse<CategoryResponse>>> searchCategories(
             @RequestParam(required = false) String searchTerm,
             @RequestParam(required = false) Boolean isActive,
@@ -182,6 +188,7 @@ public class CategoryController {
     }
 
     @GetMapping("/active/ordered")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<List<CategoryResponse>>> getActiveCategoriesOrderedByDisplayOrder(
             HttpServletRequest request
     ) {
@@ -11,6 +11,7 @@
  */
 package com.singhtwenty2.commerce_service.controller.catalogue;
 
+import com.singhtwenty2.commerce_service.annotation.ConditionalGet;
 import com.singhtwenty2.commerce_service.data.dto.catalogue.ManufacturerDTO.ManufacturerResponse;
 import com.singhtwenty2.commerce_service.data.dto.catalogue.ManufacturerDTO.UpdateManufacturerRequest;
 import com.singhtwenty2.commerce_service.data.dto.common.GlobalApiResponse;
@@ -69,6 +70,7 @@ public class ManufacturerController {
     }
 
     @GetMapping("/{manufacturerId}")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<ManufacturerResponse>> getManufacturerById(
             @PathVariable String manufacturerId,
             HttpServletRequest request
@@ -87,6 +89,7 @@ public class ManufacturerController {
     }
 
     @GetMapping("/slug/{slug}")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<ManufacturerResponse>> getManufacturerBySlug(
             @PathVariable String slug,
             HttpServletRequest request
@@ -105,6 +108,7 @@ public class ManufacturerController {
     }
 
     @GetMapping
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<PageResponse<ManufacturerResponse>>> getAllManufacturers(
             @RequestParam(defaultValue = "0") int index,
             @RequestParam(defaultValue = "10") int limit,
@@ -131,6 +135,7 @@ public class ManufacturerController {
     }
 
     @GetMapping("/active")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<PageResponse<ManufacturerResponse>>> getActiveManufacturers(
             @RequestParam(defaultValue = "0") int index,
             @RequestParam(defaultValue = "10") int limit,
@@ -157,6 +162,7 @@ public class ManufacturerController {
     }
 
     @GetMapping("/categories")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<PageResponse<ManufacturerResponse>>> getManufacturersByCategories(
             @RequestParam List<String> categoryIds,
             @RequestParam(defaultValue = "0") int index,
@@ -184,6 +190,7 @@ public class ManufacturerController {
     }
 
     @GetMapping("/categories/active")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<PageResponse<ManufacturerResponse>>> getActiveManufacturersByCategories(
             @RequestParam List<String> categoryIds,
             @RequestParam(defaultValue = "0") int index,
@@ -211,6 +218,7 @@ public class ManufacturerController {
     }
 
     @GetMapping("/search")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<PageResponse<ManufacturerResponse>>> searchManufacturers(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String categoryId,
@@ -240,6 +248,7 @@ public class ManufacturerController {
     }
 
     @GetMapping("/categories/ordered")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<List<ManufacturerResponse>>> getManufacturersByCategoriesOrderedByDisplayOrder(
             @RequestParam List<String> categoryIds,
             HttpServletRequest request
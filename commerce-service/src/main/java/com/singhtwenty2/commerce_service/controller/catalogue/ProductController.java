@@ -11,8 +11,12 @@
  */
 package com.singhtwenty2.commerce_service.controller.catalogue;
 
+import com.singhtwenty2.commerce_service.annotation.ConditionalGet;
 import com.singhtwenty2.commerce_service.data.dto.common.GlobalApiResponse;
 import com.singhtwenty2.commerce_service.data.dto.common.PageResponse;
+import com.singhtwenty2.commerce_service.data.dto.common.SliceResponse;
+import com.singhtwenty2.commerce_service.data.enums.ImportFormat;
+import com.singhtwenty2.commerce_service.exception.BusinessException;
 import com.singhtwenty2.commerce_service.service.catalogue.ProductService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -21,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -29,11 +34,15 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageUploadJobDTO.ImageUploadJobResponse;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.PreSignedUrlDTO.PresignedUrlResponse;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductImportDTO.ImportReport;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.*;
 import static com.singhtwenty2.commerce_service.util.io.NetworkUtils.getClientIP;
 
@@ -77,6 +86,35 @@ public class ProductController {
         );
     }
 
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalApiResponse<ImportReport>> importProducts(
+            HttpServletRequest request
+    ) {
+        ImportFormat format = MediaType.parseMediaType(request.getContentType())
+                                      .isCompatibleWith(MediaType.parseMediaType("text/csv")) ?
+                ImportFormat.CSV : ImportFormat.NDJSON;
+
+        log.info("Product import attempt from IP: {} in {} format", getClientIP(request), format);
+
+        ImportReport report;
+        try {
+            report = productService.importProducts(request.getInputStream(), format);
+        } catch (IOException e) {
+            throw new BusinessException("Failed to read product import stream: " + e.getMessage());
+        }
+
+        log.info("Product import completed: {} imported, {} failed", report.getImportedRows(), report.getFailedRows());
+
+        return ResponseEntity.ok(
+                GlobalApiResponse.<ImportReport>builder()
+                        .success(true)
+                        .message("Product import completed")
+                        .data(report)
+                        .build()
+        );
+    }
+
     @PostMapping("/{productId}/variants")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<GlobalApiResponse<ProductResponse>> createVariant(
@@ -101,6 +139,7 @@ public class ProductController {
     }
 
     @GetMapping("/{productId}")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<ProductResponse>> getProductById(
             @PathVariable String productId,
             HttpServletRequest request
@@ -119,6 +158,7 @@ public class ProductController {
     }
 
     @GetMapping("/slug/{slug}")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<ProductResponse>> getProductBySlug(
             @PathVariable String slug,
             HttpServletRequest request
@@ -137,6 +177,7 @@ public class ProductController {
     }
 
     @GetMapping("/sku/{sku}")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<ProductResponse>> getProductBySku(
             @PathVariable String sku,
             HttpServletRequest request
@@ -155,7 +196,8 @@ public class ProductController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<GlobalApiResponse<PageResponse<ProductSummary>>> searchProducts(
+    @ConditionalGet(weak = true)
+    public ResponseEntity<GlobalApiResponse<ProductSearchResponse>> searchProducts(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String categoryId,
             @RequestParam(required = false) String manufacturerId,
@@ -164,10 +206,12 @@ public class ProductController {
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) Boolean isFeatured,
             @RequestParam(required = false) Boolean inStock,
+            @RequestParam(required = false) List<String> specs,
             @RequestParam(defaultValue = "created_at") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDirection,
             @RequestParam(defaultValue = "0") int index,
             @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean includeFacets,
             HttpServletRequest request
     ) {
         log.debug("Searching products with filters from IP: {}", getClientIP(request));
@@ -181,6 +225,7 @@ public class ProductController {
                 .maxPrice(maxPrice)
                 .isFeatured(isFeatured)
                 .inStock(inStock)
+                .specifications(parseSpecificationFilters(specs))
                 .sortBy(sortBy)
                 .sortDirection(sortDirection)
                 .page(index)
@@ -194,10 +239,13 @@ public class ProductController {
         Pageable pageable = PageRequest.of(index, limit, sort);
 
         Page<ProductSummary> productPage = productService.getAllProducts(filters, pageable);
-        PageResponse<ProductSummary> response = PageResponse.from(productPage);
+        ProductSearchResponse response = ProductSearchResponse.builder()
+                .page(PageResponse.from(productPage))
+                .facets(includeFacets ? productService.getProductFacets(filters) : null)
+                .build();
 
         return ResponseEntity.ok(
-                GlobalApiResponse.<PageResponse<ProductSummary>>builder()
+                GlobalApiResponse.<ProductSearchResponse>builder()
                         .success(true)
                         .message("Products retrieved successfully")
                         .data(response)
@@ -205,6 +253,85 @@ public class ProductController {
         );
     }
 
+    @GetMapping("/browse")
+    @ConditionalGet(weak = true)
+    public ResponseEntity<GlobalApiResponse<SliceResponse<ProductSummary>>> browseProducts(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(required = false) String manufacturerId,
+            @RequestParam(required = false) List<String> compatibilityBrandIds,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean isFeatured,
+            @RequestParam(required = false) List<String> specs,
+            @RequestParam(defaultValue = "created_at") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(defaultValue = "0") int index,
+            @RequestParam(defaultValue = "20") int limit,
+            HttpServletRequest request
+    ) {
+        log.debug("Browsing products with filters from IP: {}", getClientIP(request));
+
+        ProductSearchFilters filters = ProductSearchFilters.builder()
+                .keyword(keyword)
+                .categoryId(categoryId)
+                .manufacturerId(manufacturerId)
+                .compatibilityBrandIds(compatibilityBrandIds)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .isFeatured(isFeatured)
+                .specifications(parseSpecificationFilters(specs))
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .page(index)
+                .size(limit)
+                .build();
+
+        String entitySortField = SORT_FIELD_MAPPING.getOrDefault(sortBy, "createdAt");
+
+        Sort sort = sortDirection.equalsIgnoreCase("desc") ?
+                Sort.by(entitySortField).descending() : Sort.by(entitySortField).ascending();
+        Pageable pageable = PageRequest.of(index, limit, sort);
+
+        Slice<ProductSummary> productSlice = productService.browseProducts(filters, pageable);
+        SliceResponse<ProductSummary> response = SliceResponse.from(productSlice);
+
+        return ResponseEntity.ok(
+                GlobalApiResponse.<SliceResponse<ProductSummary>>builder()
+                        .success(true)
+                        .message("Products retrieved successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
+    @GetMapping("/spec-facets")
+    @ConditionalGet(weak = true)
+    public ResponseEntity<GlobalApiResponse<List<SpecificationFacet>>> getSpecificationFacets(
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(required = false) String manufacturerId,
+            @RequestParam(required = false) List<String> specs,
+            HttpServletRequest request
+    ) {
+        log.debug("Fetching specification facets from IP: {}", getClientIP(request));
+
+        ProductSearchFilters filters = ProductSearchFilters.builder()
+                .categoryId(categoryId)
+                .manufacturerId(manufacturerId)
+                .specifications(parseSpecificationFilters(specs))
+                .build();
+
+        List<SpecificationFacet> facets = productService.getSpecificationFacets(filters);
+
+        return ResponseEntity.ok(
+                GlobalApiResponse.<List<SpecificationFacet>>builder()
+                        .success(true)
+                        .message("Specification facets retrieved successfully")
+                        .data(facets)
+                        .build()
+        );
+    }
+
     @GetMapping("/admin/all")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<GlobalApiResponse<PageResponse<ProductSummary>>> getAllProductsIncludingVariants(
@@ -258,6 +385,7 @@ public class ProductController {
     }
 
     @GetMapping("/{productId}/variants")
+    @ConditionalGet(weak = true)
     public ResponseEntity<GlobalApiResponse<List<ProductVariantInfo>>> getProductVariants(
             @PathVariable String productId,
             HttpServletRequest request
@@ -365,7 +493,7 @@ public class ProductController {
 
     @PostMapping(value = "/{productId}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<GlobalApiResponse<List<String>>> uploadProductImages(
+    public ResponseEntity<GlobalApiResponse<ImageUploadJobResponse>> uploadProductImages(
             @PathVariable String productId,
             @RequestParam("images") List<MultipartFile> files,
             HttpServletRequest request
@@ -373,15 +501,32 @@ public class ProductController {
         log.info("Images upload attempt from IP: {} for product: {} (count: {})",
                 getClientIP(request), productId, files.size());
 
-        List<String> objectKeys = productService.uploadProductImages(productId, files);
+        ImageUploadJobResponse job = productService.uploadProductImages(productId, files);
 
-        log.info("Images uploaded successfully for product: {} (count: {})", productId, objectKeys.size());
+        log.info("Images queued for product: {} (job: {})", productId, job.getJobId());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                GlobalApiResponse.<ImageUploadJobResponse>builder()
+                        .success(true)
+                        .message("Product images accepted for processing")
+                        .data(job)
+                        .build()
+        );
+    }
+
+    @GetMapping("/{productId}/images/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalApiResponse<ImageUploadJobResponse>> getImageUploadJob(
+            @PathVariable String productId,
+            @PathVariable String jobId
+    ) {
+        ImageUploadJobResponse job = productService.getImageUploadJob(productId, jobId);
 
         return ResponseEntity.ok(
-                GlobalApiResponse.<List<String>>builder()
+                GlobalApiResponse.<ImageUploadJobResponse>builder()
                         .success(true)
-                        .message("Product images uploaded successfully")
-                        .data(objectKeys)
+                        .message("Image upload job retrieved successfully")
+                        .data(job)
                         .build()
         );
     }
@@ -443,4 +588,20 @@ public class ProductController {
                         .build()
         );
     }
+
+    private static Map<String, String> parseSpecificationFilters(List<String> specs) {
+        if (specs == null || specs.isEmpty()) {
+            return null;
+        }
+
+        Map<String, String> specifications = new HashMap<>();
+        for (String spec : specs) {
+            int separator = spec.indexOf(':');
+            if (separator <= 0 || separator == spec.length() - 1) {
+                throw new BusinessException("Invalid specification filter '" + spec + "', expected key:value");
+            }
+            specifications.put(spec.substring(0, separator), spec.substring(separator + 1));
+        }
+        return specifications;
+    }
 }
\ No newline at end of file
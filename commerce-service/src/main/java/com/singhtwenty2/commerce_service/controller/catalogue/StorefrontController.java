@@ -0,0 +1,54 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.controller.catalogue;
+
+import com.singhtwenty2.commerce_service.service.catalogue.StorefrontService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.StorefrontDTO.HomeSnapshot;
+
+@RestController
+@RequestMapping("/v1/public")
+@RequiredArgsConstructor
+@Slf4j
+public class StorefrontController {
+
+    private final StorefrontService storefrontService;
+
+    @GetMapping("/home")
+    public ResponseEntity<byte[]> getHome(
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        HomeSnapshot snapshot = storefrontService.getHomeSnapshot();
+
+        if (new ServletWebRequest(request, response).checkNotModified(snapshot.getEtag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getPayload());
+    }
+}
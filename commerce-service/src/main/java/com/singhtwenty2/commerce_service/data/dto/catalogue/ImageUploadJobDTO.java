@@ -0,0 +1,52 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.data.dto.catalogue;
+
+import lombok.*;
+
+import java.util.List;
+
+public class ImageUploadJobDTO {
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ImageUploadJobResponse {
+        private String jobId;
+        private String productId;
+        private String status;
+        private int totalImages;
+        private int processedImages;
+        private int uploadedImages;
+        private int failedImages;
+        private List<ImageUploadJobItem> images;
+        private String createdAt;
+        private String completedAt;
+    }
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ImageUploadJobItem {
+        private int position;
+        private String fileName;
+        private String status;
+        private String objectKey;
+        private String errorMessage;
+    }
+}
@@ -11,6 +11,8 @@
  */
 package com.singhtwenty2.commerce_service.data.dto.catalogue;
 
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.singhtwenty2.commerce_service.data.dto.common.PageResponse;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
@@ -335,6 +337,7 @@ public class ProductDTO {
         private BigDecimal maxPrice;
         private Boolean isFeatured;
         private Boolean inStock;
+        private Map<String, String> specifications;
         private String sortBy = "created_at";
         private String sortDirection = "desc";
         private Integer page = 0;
@@ -412,4 +415,75 @@ public class ProductDTO {
         private BigDecimal averagePrice;
         private BigDecimal totalInventoryValue;
     }
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class FacetCount {
+        private String id;
+        private String name;
+        private Long count;
+    }
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PriceBandCount {
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+        private Long count;
+    }
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SpecificationValueCount {
+        private String value;
+        private Long count;
+    }
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SpecificationFacet {
+        private String key;
+        private List<SpecificationValueCount> values;
+    }
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ProductFacets {
+        private List<FacetCount> manufacturers;
+        private List<FacetCount> categories;
+        private List<FacetCount> compatibilityBrands;
+        private List<PriceBandCount> priceBands;
+    }
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ProductSearchResponse {
+        @JsonUnwrapped
+        private PageResponse<ProductSummary> page;
+        private ProductFacets facets;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.data.dto.catalogue;
+
+import lombok.*;
+
+import java.util.List;
+
+public class ProductImportDTO {
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ImportRowError {
+        private Integer rowNumber;
+        private String productName;
+        private String message;
+    }
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ImportReport {
+        private Integer totalRows;
+        private Integer importedRows;
+        private Integer failedRows;
+        private Long durationMillis;
+        private Double rowsPerSecond;
+        private Boolean errorsTruncated;
+        private List<ImportRowError> errors;
+    }
+}
\ No newline at end of file
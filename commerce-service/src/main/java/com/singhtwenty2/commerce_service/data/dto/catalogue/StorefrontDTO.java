@@ -0,0 +1,55 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.data.dto.catalogue;
+
+import lombok.*;
+
+import java.util.List;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.CategoryDTO.CategoryResponse;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ManufacturerDTO.ManufacturerResponse;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.ProductSummary;
+
+public class StorefrontDTO {
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class HomeCategory {
+        private CategoryResponse category;
+        private List<ManufacturerResponse> manufacturers;
+    }
+
+    @Setter
+    @Getter
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class HomeResponse {
+        private List<HomeCategory> categories;
+        private List<ProductSummary> featuredProducts;
+        private String generatedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class HomeSnapshot {
+        private final byte[] payload;
+        private final String etag;
+        private final Long generation;
+        private final long builtAtMillis;
+    }
+}
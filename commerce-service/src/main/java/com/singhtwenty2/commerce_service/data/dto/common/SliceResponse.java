@@ -0,0 +1,46 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.data.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+    private List<T> content;
+    private int index;
+    private int limit;
+    private boolean first;
+    private boolean hasNext;
+    private boolean empty;
+    private int numberOfElements;
+
+    public static <T> SliceResponse<T> from(Slice<T> slice) {
+        return SliceResponse.<T>builder()
+                .content(slice.getContent())
+                .index(slice.getNumber())
+                .limit(slice.getSize())
+                .first(slice.isFirst())
+                .hasNext(slice.hasNext())
+                .empty(slice.isEmpty())
+                .numberOfElements(slice.getNumberOfElements())
+                .build();
+    }
+}
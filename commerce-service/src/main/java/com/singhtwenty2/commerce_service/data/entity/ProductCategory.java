@@ -0,0 +1,51 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.data.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "product_categories",
+        indexes = {
+                @Index(name = "idx_product_category_category", columnList = "category_id, product_id")
+        }
+)
+@IdClass(ProductCategory.ProductCategoryId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCategory {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Id
+    @Column(name = "category_id", nullable = false)
+    private UUID categoryId;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ProductCategoryId implements Serializable {
+        private UUID productId;
+        private UUID categoryId;
+    }
+}
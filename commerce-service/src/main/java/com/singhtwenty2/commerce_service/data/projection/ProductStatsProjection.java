@@ -0,0 +1,29 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.data.projection;
+
+import java.math.BigDecimal;
+
+public interface ProductStatsProjection {
+
+    Long getTotalProducts();
+
+    Long getActiveProducts();
+
+    Long getFeaturedProducts();
+
+    Long getProductsWithVariants();
+
+    BigDecimal getAveragePrice();
+
+    BigDecimal getTotalInventoryValue();
+}
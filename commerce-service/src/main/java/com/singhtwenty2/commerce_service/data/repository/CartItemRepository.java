@@ -15,10 +15,12 @@ import com.singhtwenty2.commerce_service.data.entity.Cart;
 import com.singhtwenty2.commerce_service.data.entity.CartItem;
 import com.singhtwenty2.commerce_service.data.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,4 +42,11 @@ public interface CartItemRepository extends JpaRepository<CartItem, UUID> {
     List<CartItem> findByProduct(@Param("product") Product product);
 
     Optional<CartItem> findByCartIdAndProductId(UUID cartId, UUID productId);
+
+    @Modifying
+    @Query(value = "DELETE FROM cart_items WHERE cart_id IN (" +
+                   "SELECT c.id FROM carts c WHERE c.updated_at < :cutoffDate AND c.is_active = true " +
+                   "ORDER BY c.id LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+           nativeQuery = true)
+    int deleteItemsOfInactiveCartsOlderThan(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("batchSize") int batchSize);
 }
\ No newline at end of file
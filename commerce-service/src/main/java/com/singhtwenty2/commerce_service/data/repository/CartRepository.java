@@ -14,7 +14,9 @@ package com.singhtwenty2.commerce_service.data.repository;
 import com.singhtwenty2.commerce_service.data.entity.Cart;
 import com.singhtwenty2.commerce_service.data.entity.User;
 import com.singhtwenty2.commerce_service.data.enums.CartType;
+import com.singhtwenty2.commerce_service.data.projection.CartSummaryProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,20 +29,29 @@ import java.util.UUID;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, UUID> {
 
-    Optional<Cart> findByUserAndCartTypeAndIsActive(User user, CartType cartType, Boolean isActive);
-
     @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.cartItems ci LEFT JOIN FETCH ci.product p " +
-           "WHERE c.user = :user AND c.cartType = :cartType AND c.isActive = true")
-    Optional<Cart> findByUserAndCartTypeWithItems(@Param("user") User user, @Param("cartType") CartType cartType);
-
-    @Query("SELECT c FROM Cart c WHERE c.user = :user AND c.isActive = true")
-    List<Cart> findAllByUserAndIsActive(@Param("user") User user);
+           "WHERE c.user.id = :userId AND c.cartType = :cartType AND c.isActive = true")
+    Optional<Cart> findByUserIdAndCartTypeWithItems(@Param("userId") UUID userId, @Param("cartType") CartType cartType);
+
+    @Query("SELECT c.cartType AS cartType, " +
+           "COALESCE(SUM(ci.quantity), 0) AS totalItems, " +
+           "COALESCE(SUM(ci.priceAtTime * ci.quantity), 0) AS totalAmount, " +
+           "c.updatedAt AS lastUpdated " +
+           "FROM Cart c LEFT JOIN c.cartItems ci " +
+           "WHERE c.user.id = :userId AND c.isActive = true " +
+           "GROUP BY c.id, c.cartType, c.updatedAt")
+    List<CartSummaryProjection> summarizeActiveCartsByUserId(@Param("userId") UUID userId);
 
     @Query("SELECT COUNT(ci) FROM CartItem ci WHERE ci.cart.user = :user AND ci.cart.cartType = :cartType AND ci.cart.isActive = true")
     Integer countItemsByUserAndCartType(@Param("user") User user, @Param("cartType") CartType cartType);
 
-    @Query("SELECT c FROM Cart c WHERE c.updatedAt < :cutoffDate AND c.isActive = true")
-    List<Cart> findInactiveCartsOlderThan(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Modifying
+    @Query(value = "DELETE FROM carts WHERE id IN (" +
+                   "SELECT c.id FROM carts c WHERE c.updated_at < :cutoffDate AND c.is_active = true " +
+                   "AND NOT EXISTS (SELECT 1 FROM cart_items ci WHERE ci.cart_id = c.id) " +
+                   "ORDER BY c.id LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+           nativeQuery = true)
+    int deleteEmptyInactiveCartsOlderThan(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("batchSize") int batchSize);
 
     Optional<Cart> findByIdAndUserIdAndCartTypeAndIsActiveTrue(UUID cartId, UUID userId, CartType cartType);
 
@@ -12,6 +12,7 @@
 package com.singhtwenty2.commerce_service.data.repository;
 
 import com.singhtwenty2.commerce_service.data.entity.Category;
+import com.singhtwenty2.commerce_service.data.projection.CategoryManufacturerCountProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -19,6 +20,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +36,9 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
     boolean existsBySlug(String slug);
 
+    @Query("SELECT c.slug FROM Category c WHERE c.slug = :slug OR c.slug LIKE :suffixPattern ESCAPE '!'")
+    List<String> findSlugFamily(@Param("slug") String slug, @Param("suffixPattern") String suffixPattern);
+
     boolean existsByNameAndIdNot(String name, UUID id);
 
     boolean existsBySlugAndIdNot(String slug, UUID id);
@@ -55,6 +60,13 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
     @Query("SELECT COUNT(DISTINCT m) FROM Manufacturer m JOIN m.categories c WHERE c.id = :categoryId")
     Long countManufacturersByCategoryId(@Param("categoryId") UUID categoryId);
 
+    @Query("SELECT p.id FROM Product p JOIN p.manufacturer m JOIN m.categories c WHERE c.id = :categoryId")
+    List<UUID> findProductIdsByCategoryId(@Param("categoryId") UUID categoryId);
+
+    @Query("SELECT c.id AS categoryId, COUNT(DISTINCT m.id) AS manufacturerCount FROM Manufacturer m JOIN m.categories c " +
+           "WHERE c.id IN :categoryIds GROUP BY c.id")
+    List<CategoryManufacturerCountProjection> countManufacturersByCategoryIds(@Param("categoryIds") Collection<UUID> categoryIds);
+
     Optional<Category> findTopByOrderByDisplayOrderDesc();
 
     @Query("SELECT c FROM Category c JOIN FETCH c.manufacturers WHERE c.id = :categoryId")
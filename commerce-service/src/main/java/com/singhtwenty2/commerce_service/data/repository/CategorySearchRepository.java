@@ -12,11 +12,13 @@
 package com.singhtwenty2.commerce_service.data.repository;
 
 import com.singhtwenty2.commerce_service.data.entity.Category;
+import com.singhtwenty2.commerce_service.data.projection.CategoryManufacturerCountProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -40,6 +42,7 @@ public interface CategorySearchRepository extends JpaRepository<Category, UUID>
             """)
     List<Category> searchCategories(@Param("searchTerm") String searchTerm);
 
-    @Query("SELECT COUNT(DISTINCT m) FROM Manufacturer m JOIN m.categories c WHERE c.id = :categoryId AND m.isActive = true")
-    Long countActiveManufacturersByCategoryId(@Param("categoryId") UUID categoryId);
+    @Query("SELECT c.id AS categoryId, COUNT(DISTINCT m.id) AS manufacturerCount FROM Manufacturer m JOIN m.categories c " +
+           "WHERE c.id IN :categoryIds AND m.isActive = true GROUP BY c.id")
+    List<CategoryManufacturerCountProjection> countActiveManufacturersByCategoryIds(@Param("categoryIds") Collection<UUID> categoryIds);
 }
\ No newline at end of file
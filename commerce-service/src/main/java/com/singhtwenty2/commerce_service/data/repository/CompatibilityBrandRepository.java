@@ -34,6 +34,9 @@ public interface CompatibilityBrandRepository extends JpaRepository<Compatibilit
 
     boolean existsBySlug(String slug);
 
+    @Query("SELECT cb.slug FROM CompatibilityBrand cb WHERE cb.slug = :slug OR cb.slug LIKE :suffixPattern ESCAPE '!'")
+    List<String> findSlugFamily(@Param("slug") String slug, @Param("suffixPattern") String suffixPattern);
+
     boolean existsByNameAndIdNot(String name, UUID id);
 
     boolean existsBySlugAndIdNot(String slug, UUID id);
@@ -48,6 +51,9 @@ public interface CompatibilityBrandRepository extends JpaRepository<Compatibilit
     @Query("SELECT COUNT(DISTINCT p) FROM Product p JOIN p.compatibilityBrands cb WHERE cb.id = :compatibilityBrandId")
     Long countProductsByCompatibilityBrandId(@Param("compatibilityBrandId") UUID compatibilityBrandId);
 
+    @Query("SELECT p.id FROM Product p JOIN p.compatibilityBrands cb WHERE cb.id = :compatibilityBrandId")
+    List<UUID> findProductIdsByCompatibilityBrandId(@Param("compatibilityBrandId") UUID compatibilityBrandId);
+
     @Query("SELECT cb FROM CompatibilityBrand cb JOIN FETCH cb.products WHERE cb.id = :compatibilityBrandId")
     Optional<CompatibilityBrand> findByIdWithProducts(@Param("compatibilityBrandId") UUID compatibilityBrandId);
 
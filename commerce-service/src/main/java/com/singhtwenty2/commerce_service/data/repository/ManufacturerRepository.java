@@ -13,6 +13,7 @@ package com.singhtwenty2.commerce_service.data.repository;
 
 import com.singhtwenty2.commerce_service.data.entity.Category;
 import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
+import com.singhtwenty2.commerce_service.data.projection.ManufacturerProductCountProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,6 +21,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +35,9 @@ public interface ManufacturerRepository extends JpaRepository<Manufacturer, UUID
 
     boolean existsBySlug(String slug);
 
+    @Query("SELECT m.slug FROM Manufacturer m WHERE m.slug = :slug OR m.slug LIKE :suffixPattern ESCAPE '!'")
+    List<String> findSlugFamily(@Param("slug") String slug, @Param("suffixPattern") String suffixPattern);
+
     boolean existsByName(String name);
 
     boolean existsBySlugAndIdNot(String slug, UUID id);
@@ -66,9 +71,19 @@ public interface ManufacturerRepository extends JpaRepository<Manufacturer, UUID
     @Query("SELECT COUNT(p) FROM Product p WHERE p.manufacturer.id = :manufacturerId")
     Long countProductsByManufacturerId(@Param("manufacturerId") UUID manufacturerId);
 
+    @Query("SELECT p.id FROM Product p WHERE p.manufacturer.id = :manufacturerId")
+    List<UUID> findProductIdsByManufacturerId(@Param("manufacturerId") UUID manufacturerId);
+
+    @Query("SELECT p.manufacturer.id AS manufacturerId, COUNT(p) AS productCount FROM Product p " +
+           "WHERE p.manufacturer.id IN :manufacturerIds GROUP BY p.manufacturer.id")
+    List<ManufacturerProductCountProjection> countProductsByManufacturerIds(@Param("manufacturerIds") Collection<UUID> manufacturerIds);
+
     @Query("SELECT DISTINCT m FROM Manufacturer m JOIN m.categories c WHERE c IN :categories ORDER BY m.displayOrder ASC")
     List<Manufacturer> findByCategoriesInOrderByDisplayOrderAsc(@Param("categories") List<Category> categories);
 
     @Query("SELECT MAX(m.displayOrder) FROM Manufacturer m")
     Integer findMaxDisplayOrder();
+
+    @Query("SELECT DISTINCT m FROM Manufacturer m LEFT JOIN FETCH m.categories WHERE m.id IN :ids")
+    List<Manufacturer> findAllWithCategoriesByIdIn(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
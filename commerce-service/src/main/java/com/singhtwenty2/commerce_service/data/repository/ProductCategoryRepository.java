@@ -0,0 +1,71 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.data.repository;
+
+import com.singhtwenty2.commerce_service.data.entity.ProductCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ProductCategoryRepository extends JpaRepository<ProductCategory, ProductCategory.ProductCategoryId> {
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM product_categories pc USING products p " +
+                   "WHERE p.id = pc.product_id AND p.id IN (:productIds) " +
+                   "AND NOT EXISTS (SELECT 1 FROM manufacturer_categories mc " +
+                   "WHERE mc.manufacturer_id = p.manufacturer_id AND mc.category_id = pc.category_id)", nativeQuery = true)
+    int deleteStaleByProductIds(@Param("productIds") Collection<UUID> productIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO product_categories (product_id, category_id) " +
+                   "SELECT p.id, mc.category_id FROM products p " +
+                   "JOIN manufacturer_categories mc ON mc.manufacturer_id = p.manufacturer_id " +
+                   "WHERE p.id IN (:productIds) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertMissingByProductIds(@Param("productIds") Collection<UUID> productIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM product_categories pc USING products p " +
+                   "WHERE p.id = pc.product_id AND p.manufacturer_id = :manufacturerId " +
+                   "AND NOT EXISTS (SELECT 1 FROM manufacturer_categories mc " +
+                   "WHERE mc.manufacturer_id = p.manufacturer_id AND mc.category_id = pc.category_id)", nativeQuery = true)
+    int deleteStaleByManufacturerId(@Param("manufacturerId") UUID manufacturerId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO product_categories (product_id, category_id) " +
+                   "SELECT p.id, mc.category_id FROM products p " +
+                   "JOIN manufacturer_categories mc ON mc.manufacturer_id = p.manufacturer_id " +
+                   "WHERE p.manufacturer_id = :manufacturerId ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertMissingByManufacturerId(@Param("manufacturerId") UUID manufacturerId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM product_categories WHERE product_id IN (:productIds)", nativeQuery = true)
+    int deleteByProductIds(@Param("productIds") Collection<UUID> productIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM product_categories pc WHERE NOT EXISTS (" +
+                   "SELECT 1 FROM products p JOIN manufacturer_categories mc ON mc.manufacturer_id = p.manufacturer_id " +
+                   "WHERE p.id = pc.product_id AND mc.category_id = pc.category_id)", nativeQuery = true)
+    int deleteAllStale();
+
+    @Modifying
+    @Query(value = "INSERT INTO product_categories (product_id, category_id) " +
+                   "SELECT p.id, mc.category_id FROM products p " +
+                   "JOIN manufacturer_categories mc ON mc.manufacturer_id = p.manufacturer_id " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertAllMissing();
+}
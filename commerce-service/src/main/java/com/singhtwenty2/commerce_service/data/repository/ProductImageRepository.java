@@ -12,14 +12,20 @@
 package com.singhtwenty2.commerce_service.data.repository;
 
 import com.singhtwenty2.commerce_service.data.entity.ProductImage;
+import com.singhtwenty2.commerce_service.data.projection.ImageReferenceProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductImageRepository extends JpaRepository<ProductImage, UUID> {
@@ -61,4 +67,11 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, UUID
      */
     @Query("SELECT pi FROM ProductImage pi WHERE pi.product.id = :productId ORDER BY pi.displayOrder ASC")
     List<ProductImage> findByProductIdOrderByDisplayOrder(@Param("productId") UUID productId);
+
+    /**
+     * Stream image references created before the given cutoff
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT pi.id AS id, pi.product.id AS productId, pi.objectKey AS objectKey FROM ProductImage pi WHERE pi.createdAt < :cutoff")
+    Stream<ImageReferenceProjection> streamImageReferencesCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
 }
\ No newline at end of file
@@ -12,17 +12,25 @@
 package com.singhtwenty2.commerce_service.data.repository;
 
 import com.singhtwenty2.commerce_service.data.entity.Product;
-import com.singhtwenty2.commerce_service.data.enums.VariantType;
+import com.singhtwenty2.commerce_service.data.projection.ImageReferenceProjection;
+import com.singhtwenty2.commerce_service.data.projection.ProductNameProjection;
+import com.singhtwenty2.commerce_service.data.projection.ProductStatsProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpecificationExecutor<Product> {
@@ -33,6 +41,9 @@ public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpec
 
     boolean existsBySlug(String slug);
 
+    @Query("SELECT p.slug FROM Product p WHERE p.slug = :slug OR p.slug LIKE :suffixPattern ESCAPE '!'")
+    List<String> findSlugFamily(@Param("slug") String slug, @Param("suffixPattern") String suffixPattern);
+
     boolean existsBySku(String sku);
 
     boolean existsByName(String name);
@@ -44,18 +55,33 @@ public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpec
     @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM Product p WHERE p.name = :name AND p.manufacturer.id = :manufacturerId AND p.id != :productId")
     boolean existsByNameAndManufacturerIdAndIdNot(@Param("name") String name, @Param("manufacturerId") UUID manufacturerId, @Param("productId") UUID productId);
 
-    long countByIsActiveTrue();
-
-    long countByIsFeaturedTrue();
-
-    long countByVariantType(VariantType variantType);
-
-    @Query("SELECT AVG(p.price) FROM Product p WHERE p.isActive = true")
-    BigDecimal findAveragePrice();
-
-    @Query("SELECT SUM(p.price) FROM Product p WHERE p.isActive = true")
-    BigDecimal findTotalInventoryValue();
-
-    @Query("SELECT p FROM Product p WHERE p.thumbnailObjectKey IS NOT NULL")
-    List<Product> findProductsWithThumbnails();
+    @Query(value = "SELECT COUNT(*) AS \"totalProducts\", " +
+                   "COUNT(*) FILTER (WHERE is_active) AS \"activeProducts\", " +
+                   "COUNT(*) FILTER (WHERE is_featured) AS \"featuredProducts\", " +
+                   "COUNT(*) FILTER (WHERE variant_type = 'PARENT') AS \"productsWithVariants\", " +
+                   "AVG(price) FILTER (WHERE is_active) AS \"averagePrice\", " +
+                   "SUM(price) FILTER (WHERE is_active) AS \"totalInventoryValue\" " +
+                   "FROM products", nativeQuery = true)
+    ProductStatsProjection summarizeProductStats();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id AS id, p.id AS productId, p.thumbnailObjectKey AS objectKey FROM Product p " +
+           "WHERE p.thumbnailObjectKey IS NOT NULL AND p.updatedAt < :cutoff")
+    Stream<ImageReferenceProjection> streamThumbnailReferencesUpdatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.thumbnailObjectKey = NULL, p.thumbnailFileSize = NULL, p.thumbnailContentType = NULL, " +
+           "p.thumbnailWidth = NULL, p.thumbnailHeight = NULL WHERE p.id IN :productIds AND p.updatedAt < :cutoff")
+    int clearThumbnails(@Param("productIds") Collection<UUID> productIds, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "SELECT p.slug FROM products p " +
+                   "WHERE p.slug IN (:slugs) OR p.slug LIKE ANY (CAST(:suffixPatterns AS text[]))", nativeQuery = true)
+    List<String> findSlugFamilies(@Param("slugs") Collection<String> slugs,
+                                  @Param("suffixPatterns") String[] suffixPatterns);
+
+    @Query("SELECT p.modelNumber FROM Product p WHERE p.modelNumber IN :modelNumbers")
+    List<String> findExistingModelNumbers(@Param("modelNumbers") Collection<String> modelNumbers);
+
+    @Query("SELECT p.manufacturer.id AS manufacturerId, p.name AS name FROM Product p WHERE p.name IN :names")
+    List<ProductNameProjection> findManufacturerProductNames(@Param("names") Collection<String> names);
 }
\ No newline at end of file
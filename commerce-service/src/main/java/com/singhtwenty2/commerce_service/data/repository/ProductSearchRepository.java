@@ -12,13 +12,18 @@
 package com.singhtwenty2.commerce_service.data.repository;
 
 import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.data.projection.*;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductSearchRepository extends JpaRepository<Product, UUID> {
@@ -51,4 +56,50 @@ public interface ProductSearchRepository extends JpaRepository<Product, UUID> {
 
     @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.variants WHERE p.id IN :ids")
     List<Product> findByIdsWithVariants(@Param("ids") List<UUID> ids);
-}
\ No newline at end of file
+
+    @Query("SELECT p.id AS productId, m.name AS manufacturerName, c.name AS categoryName " +
+           "FROM Product p JOIN p.manufacturer m " +
+           "LEFT JOIN ProductCategory pc ON pc.productId = p.id LEFT JOIN Category c ON c.id = pc.categoryId " +
+           "WHERE p.id IN :ids")
+    List<ProductCategoryProjection> findManufacturerCategoriesByProductIds(@Param("ids") List<UUID> ids);
+
+    @Query("SELECT p.id AS productId, b.id AS brandId, b.name AS brandName, b.slug AS brandSlug " +
+           "FROM Product p JOIN p.compatibilityBrands b WHERE p.id IN :ids")
+    List<ProductBrandProjection> findCompatibilityBrandsByProductIds(@Param("ids") List<UUID> ids);
+
+    @Query("SELECT v.parentProduct.id AS parentProductId, COUNT(v) AS variantCount " +
+           "FROM Product v WHERE v.parentProduct.id IN :ids GROUP BY v.parentProduct.id")
+    List<VariantCountProjection> countVariantsByParentProductIds(@Param("ids") List<UUID> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id AS productId, p.manufacturer.id AS manufacturerId, p.price AS price, p.isFeatured AS isFeatured " +
+           "FROM Product p WHERE p.isActive = true AND p.variantType != 'VARIANT' ORDER BY p.createdAt DESC, p.id ASC")
+    Stream<ProductFilterRowProjection> streamListableProductFilterRows();
+
+    @Query("SELECT m.id AS manufacturerId, c.id AS categoryId FROM Manufacturer m JOIN m.categories c")
+    List<ManufacturerCategoryIdProjection> findAllManufacturerCategoryIds();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id AS productId, b.id AS brandId FROM Product p JOIN p.compatibilityBrands b " +
+           "WHERE p.isActive = true AND p.variantType != 'VARIANT'")
+    Stream<ProductBrandIdProjection> streamListableProductBrandIds();
+
+    @Query(value = """
+            SELECT s.key AS "specKey", min(s.value) AS "specValue", COUNT(*) AS "productCount"
+            FROM products p
+            CROSS JOIN LATERAL jsonb_each_text(p.specifications) s
+            WHERE p.is_active = true
+            AND p.variant_type <> 'VARIANT'
+            AND (CAST(:manufacturerId AS uuid) IS NULL OR p.manufacturer_id = CAST(:manufacturerId AS uuid))
+            AND (CAST(:categoryId AS uuid) IS NULL OR EXISTS (
+                SELECT 1 FROM product_categories pc
+                WHERE pc.product_id = p.id AND pc.category_id = CAST(:categoryId AS uuid)
+            ))
+            AND jsonb_lower(p.specifications) @> (CAST(:specifications AS jsonb) - s.key)
+            GROUP BY s.key, lower(s.value)
+            ORDER BY s.key, COUNT(*) DESC, min(s.value)
+            """, nativeQuery = true)
+    List<SpecificationValueCountProjection> countSpecificationValues(@Param("categoryId") String categoryId,
+                                                                     @Param("manufacturerId") String manufacturerId,
+                                                                     @Param("specifications") String specifications);
+}
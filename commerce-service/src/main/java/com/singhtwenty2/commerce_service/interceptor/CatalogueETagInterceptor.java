@@ -0,0 +1,102 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.interceptor;
+
+import com.singhtwenty2.commerce_service.annotation.ConditionalGet;
+import com.singhtwenty2.commerce_service.config.datasource.DataSourceRouteContext;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.CatalogueGenerationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.singhtwenty2.commerce_service.service.catalogue.helper.CatalogueGenerationService.GenerationSnapshot;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogueETagInterceptor implements HandlerInterceptor {
+
+    private final CatalogueGenerationService generationService;
+
+    private static final long URL_SIGNING_WINDOW_SECONDS = 30 * 60;
+    private static final String PRIMARY_PINNED_ATTRIBUTE = CatalogueETagInterceptor.class.getName() + ".primaryPinned";
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        Optional<GenerationSnapshot> snapshot = generationService.currentSnapshot();
+        if (snapshot.isEmpty()) {
+            return true;
+        }
+
+        String tag = "\"c" + snapshot.get().generation() + "-" + Instant.now().getEpochSecond() / URL_SIGNING_WINDOW_SECONDS + "\"";
+        String etag = conditionalGet.weak() ? "W/" + tag : tag;
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            log.debug("Catalogue resource not modified: {} {}", request.getRequestURI(), etag);
+            return false;
+        }
+
+        // The body must come from a source at least as new as the generation in the ETag.
+        if (snapshot.get().recentlyBumped()) {
+            DataSourceRouteContext.pinPrimary();
+            request.setAttribute(PRIMARY_PINNED_ATTRIBUTE, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler,
+            @Nullable Exception ex) {
+        if (request.getAttribute(PRIMARY_PINNED_ATTRIBUTE) != null) {
+            DataSourceRouteContext.clearPin();
+        }
+
+        if (!(handler instanceof HandlerMethod) ||
+            HttpMethod.GET.matches(request.getMethod()) ||
+            HttpMethod.HEAD.matches(request.getMethod()) ||
+            HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return;
+        }
+
+        if (ex == null && response.getStatus() < 400) {
+            generationService.bump();
+        }
+    }
+}
@@ -13,6 +13,9 @@ package com.singhtwenty2.commerce_service.service.catalogue;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.Map;
+
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ManufacturerImage.ManufacturerImageResult;
 
 public interface ManufacturerImageService {
@@ -25,5 +28,7 @@ public interface ManufacturerImageService {
 
     String generateLogoAccessUrl(String objectKey, Integer expirationMinutes);
 
+    Map<String, String> generateLogoAccessUrls(Collection<String> objectKeys, Integer expirationMinutes);
+
     boolean validateManufacturerLogoFile(MultipartFile file);
 }
\ No newline at end of file
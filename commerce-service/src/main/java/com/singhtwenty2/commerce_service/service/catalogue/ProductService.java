@@ -11,19 +11,26 @@
  */
 package com.singhtwenty2.commerce_service.service.catalogue;
 
+import com.singhtwenty2.commerce_service.data.enums.ImportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.List;
 
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageUploadJobDTO.ImageUploadJobResponse;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.PreSignedUrlDTO.PresignedUrlResponse;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductImportDTO.ImportReport;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.*;
 
 public interface ProductService {
 
     ProductResponse createProduct(CreateProductRequest request);
 
+    ImportReport importProducts(InputStream input, ImportFormat format);
+
     ProductResponse createVariant(String parentProductId, CreateVariantRequest request);
 
     ProductResponse getProductById(String productId);
@@ -40,13 +47,21 @@ public interface ProductService {
 
     Page<ProductSummary> getAllProducts(ProductSearchFilters filters, Pageable pageable);
 
+    Slice<ProductSummary> browseProducts(ProductSearchFilters filters, Pageable pageable);
+
     Page<ProductSummary> getAllProductsIncludingVariants(ProductSearchFilters filters, Pageable pageable);
 
+    ProductFacets getProductFacets(ProductSearchFilters filters);
+
+    List<SpecificationFacet> getSpecificationFacets(ProductSearchFilters filters);
+
     List<ProductVariantInfo> getProductVariants(String productId);
 
     String uploadProductThumbnail(String productId, MultipartFile file);
 
-    List<String> uploadProductImages(String productId, List<MultipartFile> files);
+    ImageUploadJobResponse uploadProductImages(String productId, List<MultipartFile> files);
+
+    ImageUploadJobResponse getImageUploadJob(String productId, String jobId);
 
     void deleteProductImage(String productId, String imageId);
 
@@ -0,0 +1,21 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.StorefrontDTO.HomeSnapshot;
+
+public interface StorefrontService {
+
+    HomeSnapshot getHomeSnapshot();
+
+    void refreshHomeSnapshot();
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.config.ReadReplicaProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogueGenerationService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReadReplicaProperties replicaProperties;
+
+    private static final String GENERATION_KEY = "catalogue:generation";
+    private static final String RECENT_BUMP_KEY = "catalogue:generation:recent";
+
+    public Optional<Long> currentGeneration() {
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY);
+            return Optional.of(generation != null ? Long.parseLong(generation) : 0L);
+        } catch (Exception e) {
+            log.warn("Failed to read catalogue generation: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the generation together with whether it advanced recently enough that
+     * the read replica may not have replayed the change yet.
+     */
+    public Optional<GenerationSnapshot> currentSnapshot() {
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(GENERATION_KEY, RECENT_BUMP_KEY));
+            if (values == null) {
+                return Optional.empty();
+            }
+            long generation = values.get(0) != null ? Long.parseLong(values.get(0)) : 0L;
+            return Optional.of(new GenerationSnapshot(generation, values.get(1) != null));
+        } catch (Exception e) {
+            log.warn("Failed to read catalogue generation: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void bump() {
+        try {
+            Long generation = stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+            if (replicaProperties.isEnabled()) {
+                stringRedisTemplate.opsForValue().set(RECENT_BUMP_KEY, String.valueOf(generation), replicaLagWindow());
+            }
+            log.debug("Catalogue generation advanced to {}", generation);
+        } catch (Exception e) {
+            log.warn("Failed to advance catalogue generation: {}", e.getMessage());
+        }
+    }
+
+    private Duration replicaLagWindow() {
+        long lagMillis = (long) Math.ceil(replicaProperties.getMaxLagSeconds() * 1000);
+        return Duration.ofMillis(lagMillis + replicaProperties.getHealthCheckInterval());
+    }
+
+    public record GenerationSnapshot(long generation, boolean recentlyBumped) {
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.data.repository.ProductCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ProductCategoryService {
+
+    private final ProductCategoryRepository productCategoryRepository;
+
+    public void refreshProducts(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        int removed = productCategoryRepository.deleteStaleByProductIds(productIds);
+        int added = productCategoryRepository.insertMissingByProductIds(productIds);
+        log.debug("Refreshed category membership for {} products: {} added, {} removed", productIds.size(), added, removed);
+    }
+
+    public void refreshManufacturer(UUID manufacturerId) {
+        int removed = productCategoryRepository.deleteStaleByManufacturerId(manufacturerId);
+        int added = productCategoryRepository.insertMissingByManufacturerId(manufacturerId);
+        log.debug("Refreshed category membership for manufacturer {}: {} added, {} removed", manufacturerId, added, removed);
+    }
+
+    public void removeProducts(Collection<UUID> productIds) {
+        if (!productIds.isEmpty()) {
+            productCategoryRepository.deleteByProductIds(productIds);
+        }
+    }
+
+    @Scheduled(cron = "0 30 2 * * ?")
+    public void reconcile() {
+        int removed = productCategoryRepository.deleteAllStale();
+        int added = productCategoryRepository.insertAllMissing();
+        log.info("Reconciled product category membership: {} added, {} removed", added, removed);
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.config.datasource.DataSourceRouteContext;
+import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
+import com.singhtwenty2.commerce_service.event.ProductChangedEvent;
+import com.singhtwenty2.commerce_service.service.file_handeling.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductDocumentService {
+
+    private final ProductRepository productRepository;
+    private final ProductMappingService mappingService;
+    private final S3Service s3Service;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CatalogueGenerationService generationService;
+
+    private static final String DOCUMENT_KEY_PREFIX = "product:document:slug:";
+    private static final String SLUG_INDEX_KEY_PREFIX = "product:document:id:";
+    private static final String VERSION_KEY_PREFIX = "product:document:version:";
+    private static final Duration DOCUMENT_TTL = Duration.ofHours(6);
+    private static final int URL_EXPIRATION_MINUTES = 60;
+
+    /**
+     * KEYS: document, slug index, version. ARGV: document, slug, version, ttl seconds.
+     * Skips the write when a newer entity version has already been stored.
+     */
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('GET', KEYS[3])
+            if stored and tonumber(stored) > tonumber(ARGV[3]) then
+                return 0
+            end
+            local previous = redis.call('GET', KEYS[2])
+            if previous and previous ~= ARGV[2] then
+                redis.call('DEL', '%s' .. cjson.decode(previous))
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[4])
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[4])
+            redis.call('SET', KEYS[3], ARGV[3], 'EX', ARGV[4])
+            return 1
+            """.formatted(DOCUMENT_KEY_PREFIX), Long.class);
+
+    /**
+     * Same keys and arguments as STORE_SCRIPT, but never replaces an existing document
+     * or one indexed under a different slug.
+     */
+    private static final RedisScript<Long> STORE_IF_ABSENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            local stored = redis.call('GET', KEYS[3])
+            if stored and tonumber(stored) > tonumber(ARGV[3]) then
+                return 0
+            end
+            local indexed = redis.call('GET', KEYS[2])
+            if indexed and indexed ~= ARGV[2] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[4])
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[4])
+            redis.call('SET', KEYS[3], ARGV[3], 'EX', ARGV[4])
+            return 1
+            """, Long.class);
+
+    public Optional<ProductResponse> findBySlug(String slug) {
+        try {
+            ProductResponse document = (ProductResponse) redisTemplate.opsForValue().get(DOCUMENT_KEY_PREFIX + slug);
+            if (document == null) {
+                return Optional.empty();
+            }
+            return Optional.of(signAccessUrls(document));
+        } catch (Exception e) {
+            log.warn("Failed to read product document for slug {}: {}", slug, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public ProductResponse store(Product product) {
+        return write(STORE_SCRIPT, product);
+    }
+
+    public ProductResponse storeIfAbsent(Product product) {
+        return write(STORE_IF_ABSENT_SCRIPT, product);
+    }
+
+    private ProductResponse write(RedisScript<Long> script, Product product) {
+        ProductResponse document = mappingService.mapProductToDocument(product);
+        try {
+            Long written = redisTemplate.execute(script,
+                    List.of(DOCUMENT_KEY_PREFIX + product.getSlug(),
+                            SLUG_INDEX_KEY_PREFIX + product.getId(),
+                            VERSION_KEY_PREFIX + product.getId()),
+                    document, product.getSlug(), product.getVersion() != null ? product.getVersion() : 0L,
+                    DOCUMENT_TTL.toSeconds());
+            if (!Long.valueOf(1L).equals(written)) {
+                log.debug("Skipped product document write for {} at version {}", product.getId(), product.getVersion());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to store product document for {}: {}", product.getId(), e.getMessage());
+        }
+        return signAccessUrls(document);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        DataSourceRouteContext.onPrimary(() -> rebuild(event.getProductId()));
+    }
+
+    private void rebuild(UUID productId) {
+        Optional<Product> changed = productRepository.findById(productId);
+        if (changed.isEmpty()) {
+            evict(productId);
+            generationService.bump();
+            return;
+        }
+
+        Set<Product> affected = new LinkedHashSet<>();
+        affected.add(changed.get());
+        if (changed.get().getParentProduct() != null) {
+            affected.add(changed.get().getParentProduct());
+        }
+        affected.addAll(changed.get().getVariants());
+
+        affected.forEach(this::store);
+        generationService.bump();
+        log.debug("Rebuilt {} product documents after change to {}", affected.size(), productId);
+    }
+
+    private void evict(UUID productId) {
+        try {
+            String slug = (String) redisTemplate.opsForValue().get(SLUG_INDEX_KEY_PREFIX + productId);
+            if (slug != null) {
+                redisTemplate.delete(DOCUMENT_KEY_PREFIX + slug);
+            }
+            redisTemplate.delete(List.of(SLUG_INDEX_KEY_PREFIX + productId, VERSION_KEY_PREFIX + productId));
+        } catch (Exception e) {
+            log.warn("Failed to evict product document for {}: {}", productId, e.getMessage());
+        }
+    }
+
+    private ProductResponse signAccessUrls(ProductResponse document) {
+        signThumbnail(document.getThumbnailInfo());
+        signImages(document.getCatalogImages());
+        if (document.getVariants() != null) {
+            for (ProductVariantInfo variant : document.getVariants()) {
+                signThumbnail(variant.getThumbnailInfo());
+                signImages(variant.getImages());
+            }
+        }
+        return document;
+    }
+
+    private void signThumbnail(ThumbnailInfo thumbnailInfo) {
+        if (thumbnailInfo != null && thumbnailInfo.getObjectKey() != null) {
+            thumbnailInfo.setAccessUrl(s3Service.presignReadUrl(thumbnailInfo.getObjectKey(), URL_EXPIRATION_MINUTES));
+        }
+    }
+
+    private void signImages(List<ProductImageInfo> images) {
+        if (images == null) {
+            return;
+        }
+        for (ProductImageInfo image : images) {
+            image.setAccessUrl(s3Service.presignReadUrl(image.getObjectKey(), URL_EXPIRATION_MINUTES));
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.config.datasource.DataSourceRouteContext;
+import com.singhtwenty2.commerce_service.data.entity.Category;
+import com.singhtwenty2.commerce_service.data.entity.CompatibilityBrand;
+import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
+import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.data.projection.SpecificationValueCountProjection;
+import com.singhtwenty2.commerce_service.data.repository.ProductSearchRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductFacetService {
+
+    private final EntityManager entityManager;
+    private final ProductSearchService searchService;
+    private final ProductSearchRepository productSearchRepository;
+    private final CatalogueGenerationService generationService;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private static final String FACET_CACHE_PREFIX = "search:facets:";
+    private static final String SPECIFICATION_FACET_CACHE_PREFIX = "search:spec-facets:";
+    private static final Duration FACET_CACHE_TTL = Duration.ofMinutes(10);
+    private static final List<BigDecimal> PRICE_BAND_BOUNDS = List.of(
+            new BigDecimal("500"),
+            new BigDecimal("1000"),
+            new BigDecimal("5000"),
+            new BigDecimal("10000"),
+            new BigDecimal("25000")
+    );
+
+    public ProductFacets getFacets(ProductSearchFilters filters) {
+        String cacheKey = generationService.currentGeneration()
+                .map(generation -> FACET_CACHE_PREFIX + generation + ":" + filterSignature(filters))
+                .orElse(null);
+
+        if (cacheKey != null) {
+            try {
+                ProductFacets cached = (ProductFacets) redisTemplate.opsForValue().get(cacheKey);
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (Exception e) {
+                log.warn("Failed to read cached product facets: {}", e.getMessage());
+            }
+        }
+
+        ProductFacets facets = DataSourceRouteContext.onPrimary(() -> ProductFacets.builder()
+                .manufacturers(countByManufacturer(withoutManufacturer(filters)))
+                .categories(countByCategory(withoutCategory(filters)))
+                .compatibilityBrands(countByCompatibilityBrand(withoutCompatibilityBrands(filters)))
+                .priceBands(countByPriceBand(withoutPriceRange(filters)))
+                .build());
+
+        if (cacheKey != null) {
+            try {
+                redisTemplate.opsForValue().set(cacheKey, facets, FACET_CACHE_TTL);
+            } catch (Exception e) {
+                log.warn("Failed to cache product facets: {}", e.getMessage());
+            }
+        }
+
+        return facets;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<SpecificationFacet> getSpecificationFacets(ProductSearchFilters filters) {
+        String specificationJson = searchService.toSpecificationJson(filters.getSpecifications());
+        String cacheKey = generationService.currentGeneration()
+                .map(generation -> SPECIFICATION_FACET_CACHE_PREFIX + generation + ":" + DigestUtils.md5DigestAsHex(
+                        String.join("|", String.valueOf(filters.getCategoryId()),
+                                String.valueOf(filters.getManufacturerId()), specificationJson)
+                                .getBytes(StandardCharsets.UTF_8)))
+                .orElse(null);
+
+        if (cacheKey != null) {
+            try {
+                List<SpecificationFacet> cached = (List<SpecificationFacet>) redisTemplate.opsForValue().get(cacheKey);
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (Exception e) {
+                log.warn("Failed to read cached specification facets: {}", e.getMessage());
+            }
+        }
+
+        Map<String, SpecificationFacet> facetsByKey = new LinkedHashMap<>();
+        List<SpecificationValueCountProjection> rows = DataSourceRouteContext.onPrimary(() ->
+                productSearchRepository.countSpecificationValues(
+                        filters.getCategoryId(), filters.getManufacturerId(), specificationJson));
+        for (SpecificationValueCountProjection row : rows) {
+            facetsByKey.computeIfAbsent(row.getSpecKey(), key -> SpecificationFacet.builder()
+                            .key(key)
+                            .values(new ArrayList<>())
+                            .build())
+                    .getValues().add(SpecificationValueCount.builder()
+                            .value(row.getSpecValue())
+                            .count(row.getProductCount())
+                            .build());
+        }
+        List<SpecificationFacet> facets = new ArrayList<>(facetsByKey.values());
+
+        if (cacheKey != null) {
+            try {
+                redisTemplate.opsForValue().set(cacheKey, facets, FACET_CACHE_TTL);
+            } catch (Exception e) {
+                log.warn("Failed to cache specification facets: {}", e.getMessage());
+            }
+        }
+
+        return facets;
+    }
+
+    private List<FacetCount> countByManufacturer(ProductSearchFilters filters) {
+        return countGrouped(filters, product -> product.join("manufacturer"));
+    }
+
+    private List<FacetCount> countByCategory(ProductSearchFilters filters) {
+        return countGrouped(filters, product -> {
+            Join<Product, Manufacturer> manufacturer = product.join("manufacturer");
+            Join<Manufacturer, Category> category = manufacturer.join("categories");
+            return category;
+        });
+    }
+
+    private List<FacetCount> countByCompatibilityBrand(ProductSearchFilters filters) {
+        return countGrouped(filters, product -> {
+            Join<Product, CompatibilityBrand> compatibilityBrand = product.join("compatibilityBrands");
+            return compatibilityBrand;
+        });
+    }
+
+    private List<FacetCount> countGrouped(ProductSearchFilters filters,
+                                          Function<Root<Product>, From<?, ?>> dimension) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        From<?, ?> facet = dimension.apply(product);
+
+        Expression<Long> count = criteriaBuilder.count(product);
+        query.multiselect(facet.get("id"), facet.get("name"), count)
+                .where(product.get("id").in(matchingProductIds(filters, query, criteriaBuilder)))
+                .groupBy(facet.get("id"), facet.get("name"))
+                .orderBy(criteriaBuilder.desc(count), criteriaBuilder.asc(facet.get("name")));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> FacetCount.builder()
+                        .id(row.get(0, UUID.class).toString())
+                        .name(row.get(1, String.class))
+                        .count(row.get(2, Long.class))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<PriceBandCount> countByPriceBand(ProductSearchFilters filters) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        Path<BigDecimal> price = product.get("price");
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (int band = 0; band <= PRICE_BAND_BOUNDS.size(); band++) {
+            Predicate inBand = criteriaBuilder.and(
+                    band == 0 ? criteriaBuilder.conjunction() :
+                            criteriaBuilder.greaterThanOrEqualTo(price, PRICE_BAND_BOUNDS.get(band - 1)),
+                    band == PRICE_BAND_BOUNDS.size() ? criteriaBuilder.conjunction() :
+                            criteriaBuilder.lessThan(price, PRICE_BAND_BOUNDS.get(band))
+            );
+            selections.add(criteriaBuilder.sum(criteriaBuilder.<Long>selectCase()
+                    .when(inBand, 1L)
+                    .otherwise(0L)));
+        }
+
+        query.multiselect(selections)
+                .where(product.get("id").in(matchingProductIds(filters, query, criteriaBuilder)));
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+
+        List<PriceBandCount> priceBands = new ArrayList<>();
+        for (int band = 0; band <= PRICE_BAND_BOUNDS.size(); band++) {
+            Long count = row.get(band, Long.class);
+            priceBands.add(PriceBandCount.builder()
+                    .minPrice(band == 0 ? BigDecimal.ZERO : PRICE_BAND_BOUNDS.get(band - 1))
+                    .maxPrice(band == PRICE_BAND_BOUNDS.size() ? null : PRICE_BAND_BOUNDS.get(band))
+                    .count(count != null ? count : 0L)
+                    .build());
+        }
+        return priceBands;
+    }
+
+    private Subquery<UUID> matchingProductIds(ProductSearchFilters filters, CriteriaQuery<Tuple> query,
+                                              CriteriaBuilder criteriaBuilder) {
+        Specification<Product> specification = searchService.buildProductSpecificationExcludingVariants(filters);
+        Subquery<UUID> matching = query.subquery(UUID.class);
+        Root<Product> candidate = matching.from(Product.class);
+        return matching.select(candidate.get("id"))
+                .where(specification.toPredicate(candidate, query, criteriaBuilder));
+    }
+
+    private String filterSignature(ProductSearchFilters filters) {
+        String keyword = filters.getKeyword() != null ? filters.getKeyword().trim().toLowerCase() : "";
+        String compatibilityBrandIds = filters.getCompatibilityBrandIds() != null ?
+                filters.getCompatibilityBrandIds().stream().sorted().collect(Collectors.joining(",")) : "";
+        String signature = String.join("|",
+                keyword,
+                String.valueOf(filters.getCategoryId()),
+                String.valueOf(filters.getManufacturerId()),
+                compatibilityBrandIds,
+                filters.getMinPrice() != null ? filters.getMinPrice().stripTrailingZeros().toPlainString() : "",
+                filters.getMaxPrice() != null ? filters.getMaxPrice().stripTrailingZeros().toPlainString() : "",
+                String.valueOf(filters.getIsFeatured()),
+                filters.getSpecifications() != null ? new TreeMap<>(filters.getSpecifications()).toString() : "");
+        return DigestUtils.md5DigestAsHex(signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ProductSearchFilters withoutManufacturer(ProductSearchFilters filters) {
+        ProductSearchFilters facetFilters = copyOf(filters);
+        facetFilters.setManufacturerId(null);
+        return facetFilters;
+    }
+
+    private ProductSearchFilters withoutCategory(ProductSearchFilters filters) {
+        ProductSearchFilters facetFilters = copyOf(filters);
+        facetFilters.setCategoryId(null);
+        return facetFilters;
+    }
+
+    private ProductSearchFilters withoutCompatibilityBrands(ProductSearchFilters filters) {
+        ProductSearchFilters facetFilters = copyOf(filters);
+        facetFilters.setCompatibilityBrandIds(null);
+        return facetFilters;
+    }
+
+    private ProductSearchFilters withoutPriceRange(ProductSearchFilters filters) {
+        ProductSearchFilters facetFilters = copyOf(filters);
+        facetFilters.setMinPrice(null);
+        facetFilters.setMaxPrice(null);
+        return facetFilters;
+    }
+
+    private ProductSearchFilters copyOf(ProductSearchFilters filters) {
+        return ProductSearchFilters.builder()
+                .keyword(filters.getKeyword())
+                .categoryId(filters.getCategoryId())
+                .manufacturerId(filters.getManufacturerId())
+                .compatibilityBrandIds(filters.getCompatibilityBrandIds())
+                .minPrice(filters.getMinPrice())
+                .maxPrice(filters.getMaxPrice())
+                .isFeatured(filters.getIsFeatured())
+                .inStock(filters.getInStock())
+                .specifications(filters.getSpecifications())
+                .build();
+    }
+}
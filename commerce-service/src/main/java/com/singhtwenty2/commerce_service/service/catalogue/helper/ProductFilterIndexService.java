@@ -0,0 +1,235 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.config.datasource.DataSourceRouteContext;
+import com.singhtwenty2.commerce_service.data.projection.ManufacturerCategoryIdProjection;
+import com.singhtwenty2.commerce_service.data.projection.ProductBrandIdProjection;
+import com.singhtwenty2.commerce_service.data.projection.ProductFilterRowProjection;
+import com.singhtwenty2.commerce_service.data.repository.ProductSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.ProductSearchFilters;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductFilterIndexService {
+
+    private final ProductSearchRepository productSearchRepository;
+    private final CatalogueGenerationService generationService;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final String INDEX_SORT_PROPERTY = "createdAt";
+
+    private volatile FilterIndex filterIndex;
+
+    public Optional<Page<UUID>> findProductIds(ProductSearchFilters filters, Pageable pageable) {
+        FilterIndex index = filterIndex;
+        if (index == null || !supports(filters, pageable)) {
+            return Optional.empty();
+        }
+
+        Optional<Long> generation = generationService.currentGeneration();
+        if (generation.isEmpty() || generation.get() != index.generation) {
+            return Optional.empty();
+        }
+
+        BitSet matching = evaluate(index, filters);
+        int total = matching.cardinality();
+        long offset = pageable.getOffset();
+        boolean ascending = pageable.getSort().isSorted() &&
+                            pageable.getSort().getOrderFor(INDEX_SORT_PROPERTY).isAscending();
+
+        List<UUID> productIds = new ArrayList<>(pageable.getPageSize());
+        if (offset < total) {
+            int skipped = 0;
+            int ordinal = ascending ? matching.previousSetBit(index.size - 1) : matching.nextSetBit(0);
+            while (ordinal >= 0 && productIds.size() < pageable.getPageSize()) {
+                if (skipped++ >= offset) {
+                    productIds.add(index.productIds[ordinal]);
+                }
+                ordinal = ascending ? matching.previousSetBit(ordinal - 1) : matching.nextSetBit(ordinal + 1);
+            }
+        }
+
+        return Optional.of(new PageImpl<>(productIds, pageable, total));
+    }
+
+    @Scheduled(fixedDelay = 5000, initialDelay = 10000)
+    public void refreshIndex() {
+        Optional<Long> generation = generationService.currentGeneration();
+        FilterIndex index = filterIndex;
+        if (generation.isEmpty() || index != null && index.generation == generation.get()) {
+            return;
+        }
+
+        try {
+            filterIndex = buildIndex(generation.get());
+        } catch (Exception e) {
+            log.warn("Failed to rebuild product filter index: {}", e.getMessage());
+        }
+    }
+
+    private boolean supports(ProductSearchFilters filters, Pageable pageable) {
+        if (filters.getKeyword() != null && !filters.getKeyword().trim().isEmpty()) {
+            return false;
+        }
+        if (filters.getSpecifications() != null && !filters.getSpecifications().isEmpty()) {
+            return false;
+        }
+        List<Sort.Order> orders = pageable.getSort().toList();
+        return orders.isEmpty() ||
+               orders.size() == 1 && orders.get(0).getProperty().equals(INDEX_SORT_PROPERTY);
+    }
+
+    private BitSet evaluate(FilterIndex index, ProductSearchFilters filters) {
+        BitSet matching = new BitSet(index.size);
+        matching.set(0, index.size);
+
+        if (filters.getCategoryId() != null) {
+            matching.and(index.byCategory.getOrDefault(UUID.fromString(filters.getCategoryId()), new BitSet()));
+        }
+
+        if (filters.getManufacturerId() != null) {
+            matching.and(index.byManufacturer.getOrDefault(UUID.fromString(filters.getManufacturerId()), new BitSet()));
+        }
+
+        if (filters.getCompatibilityBrandIds() != null && !filters.getCompatibilityBrandIds().isEmpty()) {
+            BitSet anyBrand = new BitSet(index.size);
+            for (String compatibilityBrandId : filters.getCompatibilityBrandIds()) {
+                BitSet brand = index.byCompatibilityBrand.get(UUID.fromString(compatibilityBrandId));
+                if (brand != null) {
+                    anyBrand.or(brand);
+                }
+            }
+            matching.and(anyBrand);
+        }
+
+        if (filters.getIsFeatured() != null) {
+            if (filters.getIsFeatured()) {
+                matching.and(index.featured);
+            } else {
+                matching.andNot(index.featured);
+            }
+        }
+
+        if (filters.getMinPrice() != null || filters.getMaxPrice() != null) {
+            for (int ordinal = matching.nextSetBit(0); ordinal >= 0; ordinal = matching.nextSetBit(ordinal + 1)) {
+                BigDecimal price = index.prices[ordinal];
+                if (filters.getMinPrice() != null && price.compareTo(filters.getMinPrice()) < 0 ||
+                    filters.getMaxPrice() != null && price.compareTo(filters.getMaxPrice()) > 0) {
+                    matching.clear(ordinal);
+                }
+            }
+        }
+
+        return matching;
+    }
+
+    private FilterIndex buildIndex(long generation) {
+        long startedAt = System.currentTimeMillis();
+        TransactionTemplate readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        FilterIndex index = DataSourceRouteContext.onPrimary(() -> readTransaction.execute(status -> {
+            List<UUID> productIds = new ArrayList<>();
+            List<BigDecimal> prices = new ArrayList<>();
+            Map<UUID, Integer> ordinals = new HashMap<>();
+            Map<UUID, BitSet> byManufacturer = new HashMap<>();
+            BitSet featured = new BitSet();
+
+            try (Stream<ProductFilterRowProjection> rows = productSearchRepository.streamListableProductFilterRows()) {
+                rows.forEach(row -> {
+                    int ordinal = productIds.size();
+                    productIds.add(row.getProductId());
+                    prices.add(row.getPrice());
+                    ordinals.put(row.getProductId(), ordinal);
+                    byManufacturer.computeIfAbsent(row.getManufacturerId(), id -> new BitSet()).set(ordinal);
+                    if (Boolean.TRUE.equals(row.getIsFeatured())) {
+                        featured.set(ordinal);
+                    }
+                });
+            }
+
+            Map<UUID, BitSet> byCategory = new HashMap<>();
+            for (ManufacturerCategoryIdProjection row : productSearchRepository.findAllManufacturerCategoryIds()) {
+                BitSet manufacturerProducts = byManufacturer.get(row.getManufacturerId());
+                if (manufacturerProducts != null) {
+                    byCategory.computeIfAbsent(row.getCategoryId(), id -> new BitSet()).or(manufacturerProducts);
+                }
+            }
+
+            Map<UUID, BitSet> byCompatibilityBrand = new HashMap<>();
+            try (Stream<ProductBrandIdProjection> rows = productSearchRepository.streamListableProductBrandIds()) {
+                rows.forEach(row -> {
+                    Integer ordinal = ordinals.get(row.getProductId());
+                    if (ordinal != null) {
+                        byCompatibilityBrand.computeIfAbsent(row.getBrandId(), id -> new BitSet()).set(ordinal);
+                    }
+                });
+            }
+
+            return new FilterIndex(
+                    generation,
+                    productIds.size(),
+                    productIds.toArray(new UUID[0]),
+                    prices.toArray(new BigDecimal[0]),
+                    featured,
+                    byManufacturer,
+                    byCategory,
+                    byCompatibilityBrand
+            );
+        }));
+
+        log.info("Rebuilt product filter index for generation {} with {} products in {} ms",
+                generation, index.size, System.currentTimeMillis() - startedAt);
+        return index;
+    }
+
+    private static class FilterIndex {
+        private final long generation;
+        private final int size;
+        private final UUID[] productIds;
+        private final BigDecimal[] prices;
+        private final BitSet featured;
+        private final Map<UUID, BitSet> byManufacturer;
+        private final Map<UUID, BitSet> byCategory;
+        private final Map<UUID, BitSet> byCompatibilityBrand;
+
+        private FilterIndex(long generation, int size, UUID[] productIds, BigDecimal[] prices, BitSet featured,
+                            Map<UUID, BitSet> byManufacturer, Map<UUID, BitSet> byCategory,
+                            Map<UUID, BitSet> byCompatibilityBrand) {
+            this.generation = generation;
+            this.size = size;
+            this.productIds = productIds;
+            this.prices = prices;
+            this.featured = featured;
+            this.byManufacturer = byManufacturer;
+            this.byCategory = byCategory;
+            this.byCompatibilityBrand = byCompatibilityBrand;
+        }
+    }
+}
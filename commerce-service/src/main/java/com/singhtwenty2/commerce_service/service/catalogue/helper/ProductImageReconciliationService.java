@@ -0,0 +1,112 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.data.projection.ImageReferenceProjection;
+import com.singhtwenty2.commerce_service.data.repository.ProductImageRepository;
+import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
+import com.singhtwenty2.commerce_service.event.ProductChangedEvent;
+import com.singhtwenty2.commerce_service.service.file_handeling.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImageReconciliationService {
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final String PRODUCT_PREFIX = "products/";
+    private static final int FIX_CHUNK_SIZE = 500;
+
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now();
+
+        List<String> storedKeys = s3Service.listObjectKeys(PRODUCT_PREFIX);
+        log.info("Listed {} product objects from S3 in {} ms", storedKeys.size(), System.currentTimeMillis() - startedAt);
+
+        if (storedKeys.isEmpty()) {
+            log.warn("No product objects listed under {}, skipping image reconciliation", PRODUCT_PREFIX);
+            return;
+        }
+
+        TransactionTemplate readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        List<UUID> orphanedThumbnailProductIds = new ArrayList<>();
+        List<UUID> orphanedImageIds = new ArrayList<>();
+        Set<UUID> affectedProductIds = new HashSet<>();
+
+        readTransaction.executeWithoutResult(status -> {
+            try (Stream<ImageReferenceProjection> thumbnails = productRepository.streamThumbnailReferencesUpdatedBefore(cutoff)) {
+                thumbnails.filter(reference -> isMissing(storedKeys, reference.getObjectKey()))
+                        .forEach(reference -> orphanedThumbnailProductIds.add(reference.getProductId()));
+            }
+            try (Stream<ImageReferenceProjection> images = productImageRepository.streamImageReferencesCreatedBefore(cutoff)) {
+                images.filter(reference -> isMissing(storedKeys, reference.getObjectKey()))
+                        .forEach(reference -> {
+                            orphanedImageIds.add(reference.getId());
+                            affectedProductIds.add(reference.getProductId());
+                        });
+            }
+        });
+
+        TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+
+        int clearedThumbnails = 0;
+        for (List<UUID> chunk : chunks(orphanedThumbnailProductIds)) {
+            Integer cleared = writeTransaction.execute(status -> {
+                int updated = productRepository.clearThumbnails(chunk, cutoff);
+                chunk.forEach(productId -> eventPublisher.publishEvent(new ProductChangedEvent(productId)));
+                return updated;
+            });
+            clearedThumbnails += cleared != null ? cleared : 0;
+        }
+
+        for (List<UUID> chunk : chunks(orphanedImageIds)) {
+            writeTransaction.executeWithoutResult(status -> productImageRepository.deleteAllByIdInBatch(chunk));
+        }
+        if (!affectedProductIds.isEmpty()) {
+            writeTransaction.executeWithoutResult(status ->
+                    affectedProductIds.forEach(productId -> eventPublisher.publishEvent(new ProductChangedEvent(productId))));
+        }
+
+        log.info("Image reconciliation finished in {} ms - cleared {} orphaned thumbnails, removed {} orphaned catalog images",
+                System.currentTimeMillis() - startedAt, clearedThumbnails, orphanedImageIds.size());
+    }
+
+    private boolean isMissing(List<String> storedKeys, String objectKey) {
+        return Collections.binarySearch(storedKeys, objectKey) < 0;
+    }
+
+    private List<List<UUID>> chunks(List<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += FIX_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + FIX_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -63,7 +63,11 @@ public class ProductImageService {
                 .toList());
 
         if (!objectKeys.isEmpty()) {
-            s3Service.deleteImages(objectKeys);
+            List<String> failedDeletes = s3Service.deleteImages(objectKeys);
+            if (!failedDeletes.isEmpty()) {
+                log.warn("Failed to delete {} of {} images for product {}: {}",
+                        failedDeletes.size(), objectKeys.size(), product.getId(), failedDeletes);
+            }
         }
     }
 
@@ -80,7 +84,11 @@ public class ProductImageService {
                 .toList());
 
         if (!objectKeysToDelete.isEmpty()) {
-            s3Service.deleteImages(objectKeysToDelete);
+            List<String> failedDeletes = s3Service.deleteImages(objectKeysToDelete);
+            if (!failedDeletes.isEmpty()) {
+                log.warn("Failed to delete {} of {} images for variant {}: {}",
+                        failedDeletes.size(), objectKeysToDelete.size(), variant.getId(), failedDeletes);
+            }
         }
     }
 
@@ -0,0 +1,405 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.data.entity.ProductImage;
+import com.singhtwenty2.commerce_service.data.enums.ImageUploadJobStatus;
+import com.singhtwenty2.commerce_service.data.repository.ProductImageRepository;
+import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
+import com.singhtwenty2.commerce_service.event.ProductChangedEvent;
+import com.singhtwenty2.commerce_service.exception.BusinessException;
+import com.singhtwenty2.commerce_service.exception.ResourceNotFoundException;
+import com.singhtwenty2.commerce_service.service.file_handeling.ImageProcessingService;
+import com.singhtwenty2.commerce_service.service.file_handeling.S3Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageDTO.ImageUploadResult;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageDTO.ProcessedImageResult;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageUploadJobDTO.ImageUploadJobItem;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageUploadJobDTO.ImageUploadJobResponse;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImageUploadJobService {
+
+    private static final int MAX_IMAGES_PER_JOB = 5;
+    private static final Duration JOB_RETENTION = Duration.ofMinutes(30);
+    private static final String JOB_KEY_PREFIX = "images:upload-job:";
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ImageProcessingService imageProcessingService;
+    private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${app.images.upload.workers:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int workers;
+
+    @Value("${app.images.upload.max-concurrent-jobs:4}")
+    private int maxConcurrentJobs;
+
+    private ExecutorService processingExecutor;
+    private Semaphore jobPermits;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void start() {
+        // Sized so a full set of admitted jobs (one task per image plus one completion) never overflows
+        processingExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrentJobs * (MAX_IMAGES_PER_JOB + 1)),
+                Thread.ofPlatform().name("image-pipeline-", 0).factory());
+        jobPermits = new Semaphore(maxConcurrentJobs);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        log.info("Image upload pipeline started with {} workers and {} concurrent jobs", workers, maxConcurrentJobs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        processingExecutor.shutdown();
+    }
+
+    public ImageUploadJobResponse submit(UUID productId, List<MultipartFile> files) {
+        if (files.size() > MAX_IMAGES_PER_JOB) {
+            throw new BusinessException("Maximum " + MAX_IMAGES_PER_JOB + " catalog images allowed per product");
+        }
+
+        if (!jobPermits.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Image pipeline is busy, please retry shortly");
+        }
+
+        List<UploadItem> items = new ArrayList<>();
+        try {
+            for (MultipartFile file : files) {
+                items.add(new UploadItem(items.size() + 1, bufferUpload(file)));
+            }
+        } catch (RuntimeException e) {
+            jobPermits.release();
+            throw e;
+        }
+
+        UploadJob job = new UploadJob(UUID.randomUUID(), productId, items);
+        saveSnapshot(job);
+
+        try {
+            CompletableFuture<?>[] pipelines = items.stream()
+                    .map(item -> CompletableFuture
+                            .supplyAsync(() -> process(job, item), processingExecutor)
+                            .thenCompose(processed -> s3Service.uploadProductImageAsync(processed, productId.toString(), false)
+                                    .thenAccept(result -> recordUpload(job, item, processed, result)))
+                            .exceptionally(e -> {
+                                item.fail(rootMessage(e));
+                                saveSnapshot(job);
+                                return null;
+                            }))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(pipelines).whenCompleteAsync((ignored, e) -> complete(job), processingExecutor);
+        } catch (RejectedExecutionException e) {
+            deleteSnapshot(job);
+            jobPermits.release();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Image pipeline is busy, please retry shortly");
+        }
+
+        log.info("Queued image upload job {} for product {} ({} images)", job.id, productId, items.size());
+        return toResponse(job);
+    }
+
+    public ImageUploadJobResponse getJob(UUID productId, UUID jobId) {
+        ImageUploadJobResponse job = (ImageUploadJobResponse) redisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+        if (job == null || !job.getProductId().equals(productId.toString())) {
+            throw new ResourceNotFoundException("Image upload job not found");
+        }
+        return job;
+    }
+
+    private InMemoryMultipartFile bufferUpload(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException("Invalid image: Image file is required");
+        }
+        if (file.getSize() > imageProcessingService.getMaxFileSize()) {
+            throw new BusinessException(String.format("Invalid image: File size exceeds maximum limit of %d MB",
+                    imageProcessingService.getMaxFileSize() / (1024 * 1024)));
+        }
+        try {
+            return new InMemoryMultipartFile(file.getName(), file.getOriginalFilename(), file.getContentType(), file.getBytes());
+        } catch (IOException e) {
+            throw new BusinessException("Unable to read image " + file.getOriginalFilename() + ": " + e.getMessage());
+        }
+    }
+
+    private ProcessedImageResult process(UploadJob job, UploadItem item) {
+        job.markStarted();
+        item.status = ImageUploadJobStatus.PROCESSING;
+        saveSnapshot(job);
+
+        ImageProcessingService.ValidationResult validation = imageProcessingService.validateImage(item.file, "product_image");
+        if (!validation.isValid()) {
+            throw new BusinessException("Invalid image: " + validation.getErrorMessage());
+        }
+
+        ProcessedImageResult processed = imageProcessingService.processProductImage(item.file, false);
+        item.file = null;
+        job.processed.incrementAndGet();
+        return processed;
+    }
+
+    private void recordUpload(UploadJob job, UploadItem item, ProcessedImageResult processed, ImageUploadResult result) {
+        if (!result.isTaskExecuted()) {
+            throw new IllegalStateException(result.getErrorMessage());
+        }
+        item.objectKey = result.getObjectKey();
+        item.fileSize = result.getFileSize();
+        item.contentType = result.getContentType();
+        item.width = processed.getMetadata().getWidth();
+        item.height = processed.getMetadata().getHeight();
+        job.uploaded.incrementAndGet();
+        saveSnapshot(job);
+    }
+
+    private void complete(UploadJob job) {
+        List<UploadItem> uploaded = job.items.stream()
+                .filter(item -> item.objectKey != null)
+                .toList();
+
+        try {
+            if (!uploaded.isEmpty() && !Boolean.TRUE.equals(transactionTemplate.execute(status -> attach(job, uploaded)))) {
+                discard(uploaded, "Product was deleted before the images were attached");
+            }
+        } catch (Exception e) {
+            log.error("Failed to attach images for upload job {}: {}", job.id, e.getMessage(), e);
+            discard(uploaded, "Failed to attach image: " + e.getMessage());
+        } finally {
+            job.finish();
+            saveSnapshot(job);
+            jobPermits.release();
+            log.info("Image upload job {} finished with status {}", job.id, job.status);
+        }
+    }
+
+    private boolean attach(UploadJob job, List<UploadItem> uploaded) {
+        Optional<Product> product = productRepository.findById(job.productId);
+        if (product.isEmpty()) {
+            return false;
+        }
+
+        List<ProductImage> productImages = new ArrayList<>();
+        for (UploadItem item : uploaded) {
+            ProductImage productImage = new ProductImage();
+            productImage.setObjectKey(item.objectKey);
+            productImage.setFileSize(item.fileSize);
+            productImage.setContentType(item.contentType);
+            productImage.setWidth(item.width);
+            productImage.setHeight(item.height);
+            product.get().addProductImage(productImage);
+            productImages.add(productImage);
+        }
+
+        productImageRepository.saveAll(productImages);
+        eventPublisher.publishEvent(new ProductChangedEvent(job.productId));
+        uploaded.forEach(item -> item.status = ImageUploadJobStatus.COMPLETED);
+        return true;
+    }
+
+    private void discard(List<UploadItem> uploaded, String reason) {
+        List<String> failedDeletes = s3Service.deleteImages(uploaded.stream().map(item -> item.objectKey).toList());
+        if (!failedDeletes.isEmpty()) {
+            log.warn("Failed to delete {} orphaned upload(s): {}", failedDeletes.size(), failedDeletes);
+        }
+        uploaded.forEach(item -> item.fail(reason));
+    }
+
+    private void saveSnapshot(UploadJob job) {
+        // Serialized per job so a slower writer never replaces a newer snapshot
+        synchronized (job) {
+            try {
+                redisTemplate.opsForValue().set(JOB_KEY_PREFIX + job.id, toResponse(job), JOB_RETENTION);
+            } catch (Exception e) {
+                log.warn("Failed to store state of image upload job {}: {}", job.id, e.getMessage());
+            }
+        }
+    }
+
+    private void deleteSnapshot(UploadJob job) {
+        try {
+            redisTemplate.delete(JOB_KEY_PREFIX + job.id);
+        } catch (Exception e) {
+            log.warn("Failed to remove state of image upload job {}: {}", job.id, e.getMessage());
+        }
+    }
+
+    private ImageUploadJobResponse toResponse(UploadJob job) {
+        List<ImageUploadJobItem> images = job.items.stream()
+                .map(item -> ImageUploadJobItem.builder()
+                        .position(item.position)
+                        .fileName(item.fileName)
+                        .status(item.status.name())
+                        .objectKey(item.status == ImageUploadJobStatus.COMPLETED ? item.objectKey : null)
+                        .errorMessage(item.errorMessage)
+                        .build())
+                .toList();
+
+        return ImageUploadJobResponse.builder()
+                .jobId(job.id.toString())
+                .productId(job.productId.toString())
+                .status(job.status.name())
+                .totalImages(job.items.size())
+                .processedImages(job.processed.get())
+                .uploadedImages(job.uploaded.get())
+                .failedImages((int) job.items.stream().filter(item -> item.status == ImageUploadJobStatus.FAILED).count())
+                .images(images)
+                .createdAt(job.createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .completedAt(job.completedAt != null ? job.completedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null)
+                .build();
+    }
+
+    private static String rootMessage(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private static final class UploadJob {
+        private final UUID id;
+        private final UUID productId;
+        private final List<UploadItem> items;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger uploaded = new AtomicInteger();
+        private volatile ImageUploadJobStatus status = ImageUploadJobStatus.QUEUED;
+        private volatile LocalDateTime completedAt;
+
+        private UploadJob(UUID id, UUID productId, List<UploadItem> items) {
+            this.id = id;
+            this.productId = productId;
+            this.items = List.copyOf(items);
+        }
+
+        private void markStarted() {
+            if (status == ImageUploadJobStatus.QUEUED) {
+                status = ImageUploadJobStatus.PROCESSING;
+            }
+        }
+
+        private void finish() {
+            long completed = items.stream().filter(item -> item.status == ImageUploadJobStatus.COMPLETED).count();
+            if (completed == items.size()) {
+                status = ImageUploadJobStatus.COMPLETED;
+            } else if (completed == 0) {
+                status = ImageUploadJobStatus.FAILED;
+            } else {
+                status = ImageUploadJobStatus.PARTIALLY_COMPLETED;
+            }
+            completedAt = LocalDateTime.now();
+        }
+    }
+
+    private static final class UploadItem {
+        private final int position;
+        private final String fileName;
+        private volatile InMemoryMultipartFile file;
+        private volatile ImageUploadJobStatus status = ImageUploadJobStatus.QUEUED;
+        private volatile String objectKey;
+        private volatile long fileSize;
+        private volatile String contentType;
+        private volatile int width;
+        private volatile int height;
+        private volatile String errorMessage;
+
+        private UploadItem(int position, InMemoryMultipartFile file) {
+            this.position = position;
+            this.fileName = file.getOriginalFilename();
+            this.file = file;
+        }
+
+        private void fail(String errorMessage) {
+            this.status = ImageUploadJobStatus.FAILED;
+            this.errorMessage = errorMessage;
+            this.file = null;
+        }
+    }
+
+    private record InMemoryMultipartFile(String name, String originalFilename, String contentType,
+                                         byte[] content) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.write(dest.toPath(), content);
+        }
+    }
+}
@@ -0,0 +1,505 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singhtwenty2.commerce_service.data.entity.CompatibilityBrand;
+import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
+import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.data.enums.ImportFormat;
+import com.singhtwenty2.commerce_service.data.repository.CompatibilityBrandRepository;
+import com.singhtwenty2.commerce_service.data.repository.ManufacturerRepository;
+import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
+import com.singhtwenty2.commerce_service.exception.BusinessException;
+import com.singhtwenty2.commerce_service.util.slug.SlugAllocator;
+import com.singhtwenty2.commerce_service.util.slug.SlugGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.CreateProductRequest;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductImportDTO.ImportReport;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductImportDTO.ImportRowError;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportService {
+
+    private final ProductRepository productRepository;
+    private final ManufacturerRepository manufacturerRepository;
+    private final CompatibilityBrandRepository compatibilityBrandRepository;
+    private final ProductMappingService mappingService;
+    private final SkuGeneratorService skuGeneratorService;
+    private final ProductCategoryService productCategoryService;
+    private final SlugGenerator slugGenerator;
+    private final SlugAllocator slugAllocator;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int IMPORT_BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final Set<String> CSV_COLUMNS = Set.of(
+            "name", "model_number", "description", "short_description", "specifications",
+            "price", "compare_at_price", "cost_price", "is_featured", "display_order",
+            "meta_title", "meta_description", "meta_keywords", "search_tags",
+            "manufacturer_id", "parent_product_id", "compatibility_brand_ids"
+    );
+
+    public ImportReport importProducts(InputStream input, ImportFormat format) {
+        long startedAt = System.nanoTime();
+        ImportState state = new ImportState();
+        TransactionTemplate batchTransaction = new TransactionTemplate(transactionManager);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> csvHeader = null;
+            List<ImportRow> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+            int rowNumber = 0;
+            String line;
+
+            while ((line = format == ImportFormat.CSV ? readCsvRecord(reader) : reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == ImportFormat.CSV && csvHeader == null) {
+                    csvHeader = parseCsvHeader(line);
+                    continue;
+                }
+
+                rowNumber++;
+                batch.add(format == ImportFormat.CSV ? parseCsvRow(line, rowNumber, csvHeader) : parseJsonRow(line, rowNumber));
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    processBatch(batch, state, batchTransaction);
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                processBatch(batch, state, batchTransaction);
+            }
+        } catch (IOException e) {
+            throw new BusinessException("Failed to read product import stream: " + e.getMessage());
+        }
+
+        long durationMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        double rowsPerSecond = state.importedRows * 1000.0 / durationMillis;
+        log.info("Product import finished - {} of {} rows imported in {} ms ({} rows/s)",
+                state.importedRows, state.totalRows, durationMillis, String.format("%.1f", rowsPerSecond));
+
+        return ImportReport.builder()
+                .totalRows(state.totalRows)
+                .importedRows(state.importedRows)
+                .failedRows(state.failedRows)
+                .durationMillis(durationMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .errorsTruncated(state.failedRows > state.errors.size())
+                .errors(state.errors)
+                .build();
+    }
+
+    private void processBatch(List<ImportRow> rows, ImportState state, TransactionTemplate batchTransaction) {
+        state.totalRows += rows.size();
+
+        List<ImportRow> candidates = new ArrayList<>();
+        for (ImportRow row : rows) {
+            String error = row.error != null ? row.error : validateRow(row.request);
+            if (error != null) {
+                state.reject(row, error);
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        try {
+            BatchResult result = batchTransaction.execute(status -> persistBatch(candidates, state));
+            if (result != null) {
+                result.rejected.forEach(state::reject);
+                state.importedRows += result.importedRows;
+                state.seenNames.addAll(result.claimedNames);
+                state.seenModelNumbers.addAll(result.claimedModelNumbers);
+            }
+        } catch (Exception e) {
+            log.error("Product import batch of {} rows failed: {}", candidates.size(), e.getMessage());
+            candidates.forEach(row -> state.reject(row, "Batch rejected by database: " + e.getMessage()));
+        }
+    }
+
+    private BatchResult persistBatch(List<ImportRow> rows, ImportState state) {
+        BatchResult result = new BatchResult();
+
+        Map<UUID, Manufacturer> manufacturers = manufacturerRepository.findAllWithCategoriesByIdIn(
+                        rows.stream()
+                                .map(row -> parseUuid(row.request.getManufacturerId()))
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Manufacturer::getId, Function.identity()));
+
+        Set<UUID> compatibilityBrandIds = rows.stream()
+                .filter(row -> row.request.getCompatibilityBrandIds() != null)
+                .flatMap(row -> row.request.getCompatibilityBrandIds().stream())
+                .map(this::parseUuid)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, CompatibilityBrand> compatibilityBrands = compatibilityBrandIds.isEmpty() ?
+                Collections.emptyMap() :
+                compatibilityBrandRepository.findAllById(compatibilityBrandIds).stream()
+                        .collect(Collectors.toMap(CompatibilityBrand::getId, Function.identity()));
+
+        Set<String> names = rows.stream()
+                .map(row -> row.request.getName())
+                .collect(Collectors.toSet());
+        Set<String> existingNames = productRepository.findManufacturerProductNames(names).stream()
+                .map(existing -> nameKey(existing.getManufacturerId(), existing.getName()))
+                .collect(Collectors.toSet());
+
+        Set<String> modelNumbers = rows.stream()
+                .map(row -> row.request.getModelNumber())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> existingModelNumbers = modelNumbers.isEmpty() ?
+                Collections.emptySet() :
+                new HashSet<>(productRepository.findExistingModelNumbers(modelNumbers));
+
+        List<PendingProduct> pending = new ArrayList<>();
+        for (ImportRow row : rows) {
+            CreateProductRequest request = row.request;
+
+            Manufacturer manufacturer = manufacturers.get(parseUuid(request.getManufacturerId()));
+            if (manufacturer == null) {
+                result.reject(row, "Manufacturer not found with ID: " + request.getManufacturerId());
+                continue;
+            }
+
+            List<CompatibilityBrand> rowBrands = new ArrayList<>();
+            if (request.getCompatibilityBrandIds() != null) {
+                for (String compatibilityBrandId : request.getCompatibilityBrandIds()) {
+                    CompatibilityBrand compatibilityBrand = compatibilityBrands.get(parseUuid(compatibilityBrandId));
+                    if (compatibilityBrand != null && !rowBrands.contains(compatibilityBrand)) {
+                        rowBrands.add(compatibilityBrand);
+                    }
+                }
+                if (rowBrands.size() != new HashSet<>(request.getCompatibilityBrandIds()).size()) {
+                    result.reject(row, "One or more compatibility brands not found");
+                    continue;
+                }
+            }
+
+            String nameKey = nameKey(manufacturer.getId(), request.getName());
+            if (existingNames.contains(nameKey) || state.seenNames.contains(nameKey) || result.claimedNames.contains(nameKey)) {
+                result.reject(row, "Product with name '" + request.getName() + "' already exists for this manufacturer");
+                continue;
+            }
+
+            String modelNumber = request.getModelNumber();
+            if (modelNumber != null && (existingModelNumbers.contains(modelNumber) ||
+                                        state.seenModelNumbers.contains(modelNumber) ||
+                                        result.claimedModelNumbers.contains(modelNumber))) {
+                result.reject(row, "Product with this model number already exists");
+                continue;
+            }
+
+            result.claimedNames.add(nameKey);
+            if (modelNumber != null) {
+                result.claimedModelNumbers.add(modelNumber);
+            }
+            pending.add(new PendingProduct(row, manufacturer, rowBrands));
+        }
+
+        allocateSkus(pending);
+        allocateSlugs(pending);
+
+        List<UUID> importedProductIds = new ArrayList<>(pending.size());
+        for (PendingProduct item : pending) {
+            Product product = new Product();
+            mappingService.mapCreateRequestToProduct(item.row.request, product, item.manufacturer, null);
+            product.setSku(item.sku);
+            product.setSlug(item.slug);
+            product.getCompatibilityBrands().addAll(item.compatibilityBrands);
+            entityManager.persist(product);
+            importedProductIds.add(product.getId());
+        }
+
+        entityManager.flush();
+        productCategoryService.refreshProducts(importedProductIds);
+        entityManager.clear();
+
+        result.importedRows = pending.size();
+        return result;
+    }
+
+    private void allocateSkus(List<PendingProduct> pending) {
+        pending.forEach(item -> item.sku = skuGeneratorService.allocateSku(
+                skuGeneratorService.buildBaseSku(item.manufacturer, null, item.row.request.getName())));
+    }
+
+    private void allocateSlugs(List<PendingProduct> pending) {
+        List<String> baseSlugs = new ArrayList<>(pending.size());
+        List<String> suffixRoots = new ArrayList<>(pending.size());
+        for (PendingProduct item : pending) {
+            String baseSlug = slugGenerator.generateSlug(item.row.request.getName());
+            baseSlugs.add(baseSlug);
+            suffixRoots.add(baseSlug + "-" + slugGenerator.generateSlug(item.manufacturer.getName()));
+        }
+
+        List<String> slugs = slugAllocator.allocateAll("product", baseSlugs, suffixRoots, productRepository::findSlugFamilies);
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).slug = slugs.get(i);
+        }
+    }
+
+    private String validateRow(CreateProductRequest request) {
+        Set<ConstraintViolation<CreateProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (request.getParentProductId() != null) {
+            return "Variants cannot be bulk imported, use the variant endpoint instead";
+        }
+        return null;
+    }
+
+    private ImportRow parseJsonRow(String line, int rowNumber) {
+        try {
+            return new ImportRow(rowNumber, objectMapper.readValue(line, CreateProductRequest.class), null);
+        } catch (JsonProcessingException e) {
+            return new ImportRow(rowNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private List<String> parseCsvHeader(String line) {
+        List<String> fields = splitCsvLine(line);
+        if (fields == null) {
+            throw new BusinessException("CSV header has an unterminated quoted field");
+        }
+        List<String> header = fields.stream()
+                .map(column -> column.toLowerCase(Locale.ENGLISH))
+                .collect(Collectors.toList());
+        List<String> unknown = header.stream()
+                .filter(column -> !CSV_COLUMNS.contains(column))
+                .collect(Collectors.toList());
+        if (!unknown.isEmpty()) {
+            throw new BusinessException("Unknown CSV columns: " + String.join(", ", unknown));
+        }
+        return header;
+    }
+
+    private ImportRow parseCsvRow(String line, int rowNumber, List<String> header) {
+        List<String> values = splitCsvLine(line);
+        if (values == null) {
+            return new ImportRow(rowNumber, null, "Unterminated quoted field");
+        }
+        if (values.size() != header.size()) {
+            return new ImportRow(rowNumber, null,
+                    "Expected " + header.size() + " columns but found " + values.size());
+        }
+
+        CreateProductRequest request = new CreateProductRequest();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            try {
+                applyCsvValue(request, header.get(i), value);
+            } catch (NumberFormatException | JsonProcessingException e) {
+                return new ImportRow(rowNumber, null, "Invalid value for column " + header.get(i) + ": " + value);
+            }
+        }
+        return new ImportRow(rowNumber, request, null);
+    }
+
+    private void applyCsvValue(CreateProductRequest request, String column, String value) throws JsonProcessingException {
+        switch (column) {
+            case "name" -> request.setName(value);
+            case "model_number" -> request.setModelNumber(value);
+            case "description" -> request.setDescription(value);
+            case "short_description" -> request.setShortDescription(value);
+            case "specifications" -> request.setSpecifications(objectMapper.readValue(value, new TypeReference<>() {
+            }));
+            case "price" -> request.setPrice(new BigDecimal(value));
+            case "compare_at_price" -> request.setCompareAtPrice(new BigDecimal(value));
+            case "cost_price" -> request.setCostPrice(new BigDecimal(value));
+            case "is_featured" -> request.setIsFeatured(Boolean.parseBoolean(value));
+            case "display_order" -> request.setDisplayOrder(Integer.parseInt(value));
+            case "meta_title" -> request.setMetaTitle(value);
+            case "meta_description" -> request.setMetaDescription(value);
+            case "meta_keywords" -> request.setMetaKeywords(value);
+            case "search_tags" -> request.setSearchTags(value);
+            case "manufacturer_id" -> request.setManufacturerId(value);
+            case "parent_product_id" -> request.setParentProductId(value);
+            case "compatibility_brand_ids" -> request.setCompatibilityBrandIds(Arrays.stream(value.split("\\|"))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .collect(Collectors.toList()));
+            default -> throw new BusinessException("Unknown CSV column: " + column);
+        }
+    }
+
+    /**
+     * Reads one RFC 4180 record, joining physical lines while a quoted field is still open.
+     */
+    private String readCsvRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        StringBuilder record = new StringBuilder(line);
+        boolean quoted = endsInsideQuotes(line, false);
+        while (quoted) {
+            String next = reader.readLine();
+            if (next == null) {
+                break;
+            }
+            record.append('\n').append(next);
+            quoted = endsInsideQuotes(next, true);
+        }
+        return record.toString();
+    }
+
+    private boolean endsInsideQuotes(String line, boolean quoted) {
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quoted = !quoted;
+            }
+        }
+        return quoted;
+    }
+
+    private List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    private UUID parseUuid(String value) {
+        try {
+            return value != null ? UUID.fromString(value) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String nameKey(UUID manufacturerId, String name) {
+        return manufacturerId + "|" + name;
+    }
+
+    private static class ImportRow {
+        private final int rowNumber;
+        private final CreateProductRequest request;
+        private final String error;
+
+        private ImportRow(int rowNumber, CreateProductRequest request, String error) {
+            this.rowNumber = rowNumber;
+            this.request = request;
+            this.error = error;
+        }
+    }
+
+    private static class PendingProduct {
+        private final ImportRow row;
+        private final Manufacturer manufacturer;
+        private final List<CompatibilityBrand> compatibilityBrands;
+        private String sku;
+        private String slug;
+
+        private PendingProduct(ImportRow row, Manufacturer manufacturer, List<CompatibilityBrand> compatibilityBrands) {
+            this.row = row;
+            this.manufacturer = manufacturer;
+            this.compatibilityBrands = compatibilityBrands;
+        }
+    }
+
+    private static class BatchResult {
+        private final Map<ImportRow, String> rejected = new LinkedHashMap<>();
+        private final Set<String> claimedNames = new HashSet<>();
+        private final Set<String> claimedModelNumbers = new HashSet<>();
+        private int importedRows;
+
+        private void reject(ImportRow row, String message) {
+            rejected.put(row, message);
+        }
+    }
+
+    private static class ImportState {
+        private final Set<String> seenNames = new HashSet<>();
+        private final Set<String> seenModelNumbers = new HashSet<>();
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private int totalRows;
+        private int importedRows;
+        private int failedRows;
+
+        private void reject(ImportRow row, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ImportRowError.builder()
+                        .rowNumber(row.rowNumber)
+                        .productName(row.request != null ? row.request.getName() : null)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.data.projection.ProductBrandProjection;
+import com.singhtwenty2.commerce_service.data.projection.ProductCategoryProjection;
+import com.singhtwenty2.commerce_service.data.projection.VariantCountProjection;
+import com.singhtwenty2.commerce_service.data.repository.ProductSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.CompatibilityBrandInfo;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.ProductSummary;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductListingService {
+
+    private final ProductSearchRepository productSearchRepository;
+    private final ProductMappingService mappingService;
+
+    public List<ProductSummary> mapToSummaries(List<Product> products) {
+        if (products.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<UUID> productIds = products.stream()
+                .map(Product::getId)
+                .collect(Collectors.toList());
+
+        Map<UUID, String> manufacturerNames = new HashMap<>();
+        Map<UUID, List<String>> categoryNames = new HashMap<>();
+        for (ProductCategoryProjection row : productSearchRepository.findManufacturerCategoriesByProductIds(productIds)) {
+            manufacturerNames.putIfAbsent(row.getProductId(), row.getManufacturerName());
+            if (row.getCategoryName() != null) {
+                categoryNames.computeIfAbsent(row.getProductId(), id -> new ArrayList<>()).add(row.getCategoryName());
+            }
+        }
+
+        Map<UUID, List<CompatibilityBrandInfo>> compatibilityBrands = new HashMap<>();
+        for (ProductBrandProjection row : productSearchRepository.findCompatibilityBrandsByProductIds(productIds)) {
+            compatibilityBrands.computeIfAbsent(row.getProductId(), id -> new ArrayList<>())
+                    .add(CompatibilityBrandInfo.builder()
+                            .compatibilityBrandId(row.getBrandId().toString())
+                            .name(row.getBrandName())
+                            .slug(row.getBrandSlug())
+                            .build());
+        }
+
+        Map<UUID, Long> variantCounts = productSearchRepository.countVariantsByParentProductIds(productIds).stream()
+                .collect(Collectors.toMap(VariantCountProjection::getParentProductId, VariantCountProjection::getVariantCount));
+
+        log.debug("Resolved listing associations for {} products", productIds.size());
+
+        return products.stream()
+                .map(product -> mappingService.mapProductToSummary(
+                        product,
+                        manufacturerNames.get(product.getId()),
+                        categoryNames.getOrDefault(product.getId(), new ArrayList<>()),
+                        compatibilityBrands.get(product.getId()),
+                        variantCounts.getOrDefault(product.getId(), 0L)
+                ))
+                .collect(Collectors.toList());
+    }
+}
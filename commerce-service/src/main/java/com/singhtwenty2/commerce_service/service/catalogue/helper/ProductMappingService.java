@@ -99,6 +99,14 @@ public class ProductMappingService {
     }
 
     public ProductResponse mapProductToResponse(Product product, boolean includeVariants) {
+        return buildProductResponse(product, includeVariants, true);
+    }
+
+    public ProductResponse mapProductToDocument(Product product) {
+        return buildProductResponse(product, true, false);
+    }
+
+    private ProductResponse buildProductResponse(Product product, boolean includeVariants, boolean withAccessUrls) {
         ProductResponse.ProductResponseBuilder builder = ProductResponse.builder()
                 .productId(product.getId().toString())
                 .name(product.getName())
@@ -141,28 +149,26 @@ public class ProductMappingService {
             builder.compatibilityBrands(compatibilityBrandInfos);
         }
 
-        if (product.getThumbnailObjectKey() != null &&
-            s3Service.imageExists(product.getThumbnailObjectKey())) {
-            PresignedUrlResponse thumbnailUrl = s3Service.generateReadPresignedUrl(product.getThumbnailObjectKey(), 60);
-            builder.thumbnailInfo(ThumbnailInfo.builder()
-                    .objectKey(product.getThumbnailObjectKey())
-                    .accessUrl(thumbnailUrl.getPresignedUrl())
-                    .fileSize(product.getThumbnailFileSize())
-                    .contentType(product.getThumbnailContentType())
-                    .width(product.getThumbnailWidth())
-                    .height(product.getThumbnailHeight())
-                    .build());
+        if (product.getThumbnailObjectKey() != null) {
+            if (!withAccessUrls) {
+                builder.thumbnailInfo(buildThumbnailInfo(product, null));
+            } else if (s3Service.imageExists(product.getThumbnailObjectKey())) {
+                PresignedUrlResponse thumbnailUrl = s3Service.generateReadPresignedUrl(product.getThumbnailObjectKey(), 60);
+                builder.thumbnailInfo(buildThumbnailInfo(product, thumbnailUrl.getPresignedUrl()));
+            }
         }
 
         List<ProductImageInfo> imageInfos = product.getProductImages().stream()
-                .map(this::mapProductImageToInfo)
+                .map(productImage -> withAccessUrls ?
+                        mapProductImageToInfo(productImage) :
+                        buildProductImageInfo(productImage, null))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
         builder.catalogImages(imageInfos);
 
         if (includeVariants && product.hasVariants()) {
             List<ProductVariantInfo> variants = product.getVariants().stream()
-                    .map(this::mapProductToVariantInfo)
+                    .map(variant -> buildVariantInfo(variant, withAccessUrls))
                     .collect(Collectors.toList());
             builder.variants(variants);
             builder.totalVariants((long) variants.size());
@@ -173,7 +179,8 @@ public class ProductMappingService {
         return builder.build();
     }
 
-    public ProductSummary mapProductToSummary(Product product) {
+    public ProductSummary mapProductToSummary(Product product, String manufacturerName, List<String> categoryNames,
+                                              List<CompatibilityBrandInfo> compatibilityBrands, long totalVariants) {
         ProductSummary.ProductSummaryBuilder builder = ProductSummary.builder()
                 .productId(product.getId().toString())
                 .name(product.getName())
@@ -186,38 +193,27 @@ public class ProductMappingService {
                 .isActive(product.getIsActive())
                 .isFeatured(product.getIsFeatured())
                 .variantType(product.getVariantType().name())
-                .manufacturerName(product.getManufacturerName())
-                .categoryNames(product.getCategoryNames())
-                .totalVariants((long) product.getVariants().size())
+                .manufacturerName(manufacturerName)
+                .categoryNames(categoryNames)
+                .totalVariants(totalVariants)
                 .createdAt(product.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
 
-        if (product.getCompatibilityBrands() != null && !product.getCompatibilityBrands().isEmpty()) {
-            List<CompatibilityBrandInfo> compatibilityBrandInfos = product.getCompatibilityBrands().stream()
-                    .map(brand -> CompatibilityBrandInfo.builder()
-                            .compatibilityBrandId(brand.getId().toString())
-                            .name(brand.getName())
-                            .slug(brand.getSlug())
-                            .build())
-                    .collect(Collectors.toList());
-            builder.compatibilityBrands(compatibilityBrandInfos);
+        if (compatibilityBrands != null && !compatibilityBrands.isEmpty()) {
+            builder.compatibilityBrands(compatibilityBrands);
         }
 
         if (product.getThumbnailObjectKey() != null) {
-            PresignedUrlResponse thumbnailUrl = s3Service.generateReadPresignedUrl(product.getThumbnailObjectKey(), 60);
-            builder.thumbnailInfo(ThumbnailInfo.builder()
-                    .objectKey(product.getThumbnailObjectKey())
-                    .accessUrl(thumbnailUrl.getPresignedUrl())
-                    .fileSize(product.getThumbnailFileSize())
-                    .contentType(product.getThumbnailContentType())
-                    .width(product.getThumbnailWidth())
-                    .height(product.getThumbnailHeight())
-                    .build());
+            builder.thumbnailInfo(buildThumbnailInfo(product, s3Service.presignReadUrl(product.getThumbnailObjectKey(), 60)));
         }
 
         return builder.build();
     }
 
     public ProductVariantInfo mapProductToVariantInfo(Product variant) {
+        return buildVariantInfo(variant, true);
+    }
+
+    private ProductVariantInfo buildVariantInfo(Product variant, boolean withAccessUrls) {
         ProductVariantInfo.ProductVariantInfoBuilder builder = ProductVariantInfo.builder()
                 .variantId(variant.getId().toString())
                 .name(variant.getName())
@@ -242,19 +238,16 @@ public class ProductMappingService {
         }
 
         if (variant.getThumbnailObjectKey() != null) {
-            PresignedUrlResponse thumbnailUrl = s3Service.generateReadPresignedUrl(variant.getThumbnailObjectKey(), 60);
-            builder.thumbnailInfo(ThumbnailInfo.builder()
-                    .objectKey(variant.getThumbnailObjectKey())
-                    .accessUrl(thumbnailUrl.getPresignedUrl())
-                    .fileSize(variant.getThumbnailFileSize())
-                    .contentType(variant.getThumbnailContentType())
-                    .width(variant.getThumbnailWidth())
-                    .height(variant.getThumbnailHeight())
-                    .build());
+            String accessUrl = withAccessUrls ?
+                    s3Service.generateReadPresignedUrl(variant.getThumbnailObjectKey(), 60).getPresignedUrl() :
+                    null;
+            builder.thumbnailInfo(buildThumbnailInfo(variant, accessUrl));
         }
 
         List<ProductImageInfo> imageInfos = variant.getProductImages().stream()
-                .map(this::mapProductImageToInfo)
+                .map(productImage -> withAccessUrls ?
+                        mapProductImageToInfo(productImage) :
+                        buildProductImageInfo(productImage, null))
                 .collect(Collectors.toList());
         builder.images(imageInfos);
 
@@ -268,10 +261,14 @@ public class ProductMappingService {
         }
 
         PresignedUrlResponse imageUrl = s3Service.generateReadPresignedUrl(productImage.getObjectKey(), 60);
+        return buildProductImageInfo(productImage, imageUrl.getPresignedUrl());
+    }
+
+    private ProductImageInfo buildProductImageInfo(ProductImage productImage, String accessUrl) {
         return ProductImageInfo.builder()
                 .imageId(productImage.getId().toString())
                 .objectKey(productImage.getObjectKey())
-                .accessUrl(imageUrl.getPresignedUrl())
+                .accessUrl(accessUrl)
                 .fileSize(productImage.getFileSize())
                 .contentType(productImage.getContentType())
                 .width(productImage.getWidth())
@@ -281,4 +278,15 @@ public class ProductMappingService {
                 .isPrimary(productImage.getIsPrimary())
                 .build();
     }
-}
\ No newline at end of file
+
+    private ThumbnailInfo buildThumbnailInfo(Product product, String accessUrl) {
+        return ThumbnailInfo.builder()
+                .objectKey(product.getThumbnailObjectKey())
+                .accessUrl(accessUrl)
+                .fileSize(product.getThumbnailFileSize())
+                .contentType(product.getThumbnailContentType())
+                .width(product.getThumbnailWidth())
+                .height(product.getThumbnailHeight())
+                .build();
+    }
+}
@@ -11,122 +11,153 @@
  */
 package com.singhtwenty2.commerce_service.service.catalogue.helper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.data.entity.ProductCategory;
 import com.singhtwenty2.commerce_service.data.enums.VariantType;
+import com.singhtwenty2.commerce_service.util.sanitizer.SpecificationSanitizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.ProductSearchFilters;
 
 @Service
+@RequiredArgsConstructor
 public class ProductSearchService {
 
+    private final EntityManager entityManager;
+    private final SpecificationSanitizer specificationSanitizer;
+    private final ObjectMapper objectMapper;
+
     public Specification<Product> buildProductSpecification(ProductSearchFilters filters) {
-        return (root, query, criteriaBuilder) -> {
-            List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
-
-            if (filters.getKeyword() != null && !filters.getKeyword().trim().isEmpty()) {
-                String keyword = "%" + filters.getKeyword().toLowerCase() + "%";
-                jakarta.persistence.criteria.Predicate namePredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("name")), keyword);
-                jakarta.persistence.criteria.Predicate descriptionPredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("description")), keyword);
-                jakarta.persistence.criteria.Predicate skuPredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("sku")), keyword);
-
-                predicates.add(criteriaBuilder.or(namePredicate, descriptionPredicate, skuPredicate));
-            }
-
-            if (filters.getCategoryId() != null) {
-                predicates.add(criteriaBuilder.equal(
-                        root.join("manufacturer").join("categories").get("id"), UUID.fromString(filters.getCategoryId())));
-            }
-
-            if (filters.getManufacturerId() != null) {
-                predicates.add(criteriaBuilder.equal(
-                        root.get("manufacturer").get("id"), UUID.fromString(filters.getManufacturerId())));
-            }
-
-            if (filters.getCompatibilityBrandIds() != null && !filters.getCompatibilityBrandIds().isEmpty()) {
-                List<UUID> compatibilityBrandUuids = filters.getCompatibilityBrandIds().stream()
-                        .map(UUID::fromString)
-                        .collect(Collectors.toList());
-                predicates.add(root.join("compatibilityBrands").get("id").in(compatibilityBrandUuids));
-            }
-
-            if (filters.getMinPrice() != null) {
-                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("price"), filters.getMinPrice()));
-            }
-
-            if (filters.getMaxPrice() != null) {
-                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("price"), filters.getMaxPrice()));
-            }
-
-            if (filters.getIsFeatured() != null) {
-                predicates.add(criteriaBuilder.equal(root.get("isFeatured"), filters.getIsFeatured()));
-            }
-
-            predicates.add(criteriaBuilder.isTrue(root.get("isActive")));
-
-            return criteriaBuilder.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        };
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                buildFilterPredicates(filters, root, query, criteriaBuilder).toArray(new Predicate[0]));
     }
 
     public Specification<Product> buildProductSpecificationExcludingVariants(ProductSearchFilters filters) {
         return (root, query, criteriaBuilder) -> {
-            List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
-
+            List<Predicate> predicates = new ArrayList<>();
             predicates.add(criteriaBuilder.notEqual(root.get("variantType"), VariantType.VARIANT));
-
-            if (filters.getKeyword() != null && !filters.getKeyword().trim().isEmpty()) {
-                String keyword = "%" + filters.getKeyword().toLowerCase() + "%";
-                jakarta.persistence.criteria.Predicate namePredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("name")), keyword);
-                jakarta.persistence.criteria.Predicate descriptionPredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("description")), keyword);
-                jakarta.persistence.criteria.Predicate skuPredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("sku")), keyword);
-
-                predicates.add(criteriaBuilder.or(namePredicate, descriptionPredicate, skuPredicate));
-            }
-
-            if (filters.getCategoryId() != null) {
-                predicates.add(criteriaBuilder.equal(
-                        root.join("manufacturer").join("categories").get("id"), UUID.fromString(filters.getCategoryId())));
-            }
-
-            if (filters.getManufacturerId() != null) {
-                predicates.add(criteriaBuilder.equal(
-                        root.get("manufacturer").get("id"), UUID.fromString(filters.getManufacturerId())));
-            }
-
-            if (filters.getCompatibilityBrandIds() != null && !filters.getCompatibilityBrandIds().isEmpty()) {
-                List<UUID> compatibilityBrandUuids = filters.getCompatibilityBrandIds().stream()
-                        .map(UUID::fromString)
-                        .collect(Collectors.toList());
-                predicates.add(root.join("compatibilityBrands").get("id").in(compatibilityBrandUuids));
-            }
-
-            if (filters.getMinPrice() != null) {
-                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("price"), filters.getMinPrice()));
-            }
-
-            if (filters.getMaxPrice() != null) {
-                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("price"), filters.getMaxPrice()));
-            }
-
-            if (filters.getIsFeatured() != null) {
-                predicates.add(criteriaBuilder.equal(root.get("isFeatured"), filters.getIsFeatured()));
-            }
-
-            predicates.add(criteriaBuilder.isTrue(root.get("isActive")));
-
-            return criteriaBuilder.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
+            predicates.addAll(buildFilterPredicates(filters, root, query, criteriaBuilder));
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    public Slice<Product> findProductSlice(Specification<Product> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Product> query = criteriaBuilder.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+
+        query.select(root).where(specification.toPredicate(root, query, criteriaBuilder));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        List<Product> products = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = products.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? products.subList(0, pageable.getPageSize()) : products, pageable, hasNext);
+    }
+
+    public String toSpecificationJson(Map<String, String> specifications) {
+        try {
+            Map<String, String> sanitized = specificationSanitizer.sanitizeSpecifications(specifications);
+            sanitized.replaceAll((key, value) -> value.toLowerCase(Locale.ROOT));
+            return objectMapper.writeValueAsString(sanitized);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize specification filters", e);
+        }
+    }
+
+    private List<Predicate> buildFilterPredicates(ProductSearchFilters filters, Root<Product> root,
+                                                  CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filters.getKeyword() != null && !filters.getKeyword().trim().isEmpty()) {
+            String keyword = "%" + filters.getKeyword().toLowerCase() + "%";
+            Predicate namePredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("name")), keyword);
+            Predicate descriptionPredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("description")), keyword);
+            Predicate skuPredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("sku")), keyword);
+
+            predicates.add(criteriaBuilder.or(namePredicate, descriptionPredicate, skuPredicate));
+        }
+
+        if (filters.getCategoryId() != null) {
+            predicates.add(productInCategory(root, query, criteriaBuilder, UUID.fromString(filters.getCategoryId())));
+        }
+
+        if (filters.getManufacturerId() != null) {
+            predicates.add(criteriaBuilder.equal(
+                    root.get("manufacturer").get("id"), UUID.fromString(filters.getManufacturerId())));
+        }
+
+        if (filters.getCompatibilityBrandIds() != null && !filters.getCompatibilityBrandIds().isEmpty()) {
+            List<UUID> compatibilityBrandUuids = filters.getCompatibilityBrandIds().stream()
+                    .map(UUID::fromString)
+                    .collect(Collectors.toList());
+            predicates.add(compatibleWithAnyBrand(root, query, criteriaBuilder, compatibilityBrandUuids));
+        }
+
+        if (filters.getMinPrice() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("price"), filters.getMinPrice()));
+        }
+
+        if (filters.getMaxPrice() != null) {
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("price"), filters.getMaxPrice()));
+        }
+
+        if (filters.getIsFeatured() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("isFeatured"), filters.getIsFeatured()));
+        }
+
+        if (filters.getSpecifications() != null && !filters.getSpecifications().isEmpty()) {
+            predicates.add(criteriaBuilder.isTrue(criteriaBuilder.function("jsonb_contains", Boolean.class,
+                    criteriaBuilder.function("jsonb_lower", String.class, root.get("specifications")),
+                    criteriaBuilder.literal(toSpecificationJson(filters.getSpecifications())))));
+        }
+
+        predicates.add(criteriaBuilder.isTrue(root.get("isActive")));
+
+        return predicates;
+    }
+
+    private Predicate productInCategory(Root<Product> root, CriteriaQuery<?> query,
+                                        CriteriaBuilder criteriaBuilder, UUID categoryId) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<ProductCategory> productCategory = subquery.from(ProductCategory.class);
+        subquery.select(criteriaBuilder.literal(1))
+                .where(
+                        criteriaBuilder.equal(productCategory.get("productId"), root.get("id")),
+                        criteriaBuilder.equal(productCategory.get("categoryId"), categoryId)
+                );
+        return criteriaBuilder.exists(subquery);
+    }
+
+    private Predicate compatibleWithAnyBrand(Root<Product> root, CriteriaQuery<?> query,
+                                             CriteriaBuilder criteriaBuilder, List<UUID> compatibilityBrandIds) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<Product> product = subquery.correlate(root);
+        subquery.select(criteriaBuilder.literal(1))
+                .where(product.join("compatibilityBrands").get("id").in(compatibilityBrandIds));
+        return criteriaBuilder.exists(subquery);
+    }
+}
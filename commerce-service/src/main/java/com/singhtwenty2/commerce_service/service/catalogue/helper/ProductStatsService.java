@@ -0,0 +1,74 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.config.datasource.DataSourceRouteContext;
+import com.singhtwenty2.commerce_service.data.projection.ProductStatsProjection;
+import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.ProductStatsResponse;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductStatsService {
+
+    private final ProductRepository productRepository;
+    private final CatalogueGenerationService generationService;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private static final String STATS_CACHE_PREFIX = "product:stats:";
+    private static final Duration STATS_CACHE_TTL = Duration.ofMinutes(5);
+
+    public ProductStatsResponse getStats() {
+        String cacheKey = generationService.currentGeneration()
+                .map(generation -> STATS_CACHE_PREFIX + generation)
+                .orElse(null);
+
+        if (cacheKey != null) {
+            try {
+                ProductStatsResponse cached = (ProductStatsResponse) redisTemplate.opsForValue().get(cacheKey);
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (Exception e) {
+                log.warn("Failed to read cached product stats: {}", e.getMessage());
+            }
+        }
+
+        ProductStatsProjection snapshot = DataSourceRouteContext.onPrimary(productRepository::summarizeProductStats);
+        ProductStatsResponse stats = ProductStatsResponse.builder()
+                .totalProducts(snapshot.getTotalProducts())
+                .activeProducts(snapshot.getActiveProducts())
+                .featuredProducts(snapshot.getFeaturedProducts())
+                .productsWithVariants(snapshot.getProductsWithVariants())
+                .averagePrice(snapshot.getAveragePrice())
+                .totalInventoryValue(snapshot.getTotalInventoryValue())
+                .build();
+
+        if (cacheKey != null) {
+            try {
+                redisTemplate.opsForValue().set(cacheKey, stats, STATS_CACHE_TTL);
+            } catch (Exception e) {
+                log.warn("Failed to cache product stats: {}", e.getMessage());
+            }
+        }
+
+        return stats;
+    }
+}
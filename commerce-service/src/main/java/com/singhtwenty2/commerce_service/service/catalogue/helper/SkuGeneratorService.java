@@ -13,45 +13,46 @@ package com.singhtwenty2.commerce_service.service.catalogue.helper;
 
 import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
 import com.singhtwenty2.commerce_service.data.entity.Product;
-import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SkuGeneratorService {
 
-    private final ProductRepository productRepository;
+    private final SkuSequenceReserver skuSequenceReserver;
+
+    private static final long SKU_BLOCK_SIZE = 50;
+
+    private final Map<String, CompletableFuture<SkuBlock>> reservedBlocks = new ConcurrentHashMap<>();
 
     public String generateUniqueSku(Manufacturer manufacturer, Product parentProduct, String productName) {
-        String baseSku;
+        return allocateSku(buildBaseSku(manufacturer, parentProduct, productName));
+    }
 
+    public String allocateSku(String baseSku) {
+        return String.format("%s-%05d", baseSku, nextSequenceValue(baseSku));
+    }
+
+    public String buildBaseSku(Manufacturer manufacturer, Product parentProduct, String productName) {
         if (parentProduct != null) {
             String parentBaseSku = extractBaseSku(parentProduct.getSku());
-            baseSku = parentBaseSku + "-V";
-        } else {
-            String categoryCode = manufacturer.getCategories() != null && !manufacturer.getCategories().isEmpty() ?
-                    cleanAndTruncate(manufacturer.getCategories().get(0).getName()).toUpperCase() : "GEN";
-            String manufacturerCode = cleanAndTruncate(manufacturer.getName()).toUpperCase();
-            String productCode = cleanAndTruncate(productName).toUpperCase();
-            baseSku = String.format("SSEW-%s-%s-%s", categoryCode, manufacturerCode, productCode);
+            return parentBaseSku + "-V";
         }
 
-        String uniqueSku;
-        int attempts = 0;
-        do {
-            String suffix = generateRandomSuffix();
-            uniqueSku = baseSku + "-" + suffix;
-            attempts++;
-            if (attempts > 10) {
-                uniqueSku = baseSku + "-" + System.currentTimeMillis();
-                break;
-            }
-        } while (productRepository.existsBySku(uniqueSku));
-
-        return uniqueSku;
+        String categoryCode = manufacturer.getCategories() != null && !manufacturer.getCategories().isEmpty() ?
+                cleanAndTruncate(manufacturer.getCategories().get(0).getName()).toUpperCase() : "GEN";
+        String manufacturerCode = cleanAndTruncate(manufacturer.getName()).toUpperCase();
+        String productCode = cleanAndTruncate(productName).toUpperCase();
+        return String.format("SSEW-%s-%s-%s", categoryCode, manufacturerCode, productCode);
     }
 
     private String extractBaseSku(String sku) {
@@ -59,8 +60,50 @@ public class SkuGeneratorService {
         return lastDashIndex > 0 ? sku.substring(0, lastDashIndex) : sku;
     }
 
-    private String generateRandomSuffix() {
-        return String.format("%04X", ThreadLocalRandom.current().nextInt(0x10000));
+    private long nextSequenceValue(String baseSku) {
+        while (true) {
+            CompletableFuture<SkuBlock> current = reservedBlocks.get(baseSku);
+            if (current != null) {
+                SkuBlock block = await(current);
+                long value = block.next.getAndIncrement();
+                if (value <= block.last) {
+                    return value;
+                }
+            }
+
+            // Only the thread that publishes the reservation talks to the database; the
+            // map operations themselves never block on I/O.
+            CompletableFuture<SkuBlock> reservation = new CompletableFuture<>();
+            boolean published = current == null ?
+                    reservedBlocks.putIfAbsent(baseSku, reservation) == null :
+                    reservedBlocks.replace(baseSku, current, reservation);
+            if (published) {
+                try {
+                    reservation.complete(reserveBlock(baseSku));
+                } catch (RuntimeException e) {
+                    reservedBlocks.remove(baseSku, reservation);
+                    reservation.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private SkuBlock await(CompletableFuture<SkuBlock> reservation) {
+        try {
+            return reservation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private SkuBlock reserveBlock(String baseSku) {
+        long last = skuSequenceReserver.reserveBlock(baseSku, SKU_BLOCK_SIZE);
+        log.debug("Reserved SKU block {}-{} for prefix {}", last - SKU_BLOCK_SIZE + 1, last, baseSku);
+        return new SkuBlock(last - SKU_BLOCK_SIZE + 1, last);
     }
 
     private String cleanAndTruncate(String input) {
@@ -68,4 +111,14 @@ public class SkuGeneratorService {
         String cleaned = input.replaceAll("[^a-zA-Z0-9]", "").toUpperCase();
         return cleaned.length() > 3 ? cleaned.substring(0, 3) : cleaned;
     }
+
+    private static class SkuBlock {
+        private final AtomicLong next;
+        private final long last;
+
+        private SkuBlock(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reserves SKU sequence blocks on a small pool of its own. Callers ask for a block while
+ * their transaction already holds a main-pool connection, so borrowing a second one from
+ * that pool could starve it under concurrent product creates.
+ */
+@Component
+public class SkuSequenceReserver implements DisposableBean {
+
+    private static final String RESERVE_BLOCK_SQL =
+            "INSERT INTO sku_sequences (prefix, last_value) VALUES (?, ?) " +
+            "ON CONFLICT (prefix) DO UPDATE SET last_value = sku_sequences.last_value + EXCLUDED.last_value " +
+            "RETURNING last_value";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SkuSequenceReserver(ObjectProvider<JdbcConnectionDetails> connectionDetails,
+                               DataSourceProperties dataSourceProperties,
+                               @Value("${app.sku.reservation-pool-size:2}") int poolSize) {
+        this.dataSource = new HikariDataSource();
+        this.dataSource.setPoolName("sku-sequences");
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        if (details != null) {
+            this.dataSource.setDriverClassName(details.getDriverClassName());
+            this.dataSource.setJdbcUrl(details.getJdbcUrl());
+            this.dataSource.setUsername(details.getUsername());
+            this.dataSource.setPassword(details.getPassword());
+        } else {
+            this.dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            this.dataSource.setJdbcUrl(dataSourceProperties.determineUrl());
+            this.dataSource.setUsername(dataSourceProperties.determineUsername());
+            this.dataSource.setPassword(dataSourceProperties.determinePassword());
+        }
+        this.dataSource.setMaximumPoolSize(poolSize);
+        this.dataSource.setMinimumIdle(0);
+        this.dataSource.setAutoCommit(true);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public long reserveBlock(String prefix, long blockSize) {
+        Long last = jdbcTemplate.queryForObject(RESERVE_BLOCK_SQL, Long.class, prefix, blockSize);
+        if (last == null) {
+            throw new IllegalStateException("No SKU block reserved for prefix " + prefix);
+        }
+        return last;
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
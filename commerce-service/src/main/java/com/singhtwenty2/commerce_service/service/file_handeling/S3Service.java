@@ -14,6 +14,7 @@ package com.singhtwenty2.commerce_service.service.file_handeling;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageDTO.ImageUploadResult;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageDTO.ProcessedImageResult;
@@ -28,10 +29,14 @@ public interface S3Service {
 
     ImageUploadResult uploadProductImage(ProcessedImageResult processedImage, String productId, boolean isThumbnail);
 
+    CompletableFuture<ImageUploadResult> uploadProductImageAsync(ProcessedImageResult processedImage, String productId, boolean isThumbnail);
+
     List<ImageUploadResult> uploadProductImages(List<ProcessedImageResult> processedImages, String productId);
 
     PresignedUrlResponse generateReadPresignedUrl(String objectKey, Integer expirationMinutes);
 
+    String presignReadUrl(String objectKey, Integer expirationMinutes);
+
     PresignedUrlResponse generateDownloadPresignedUrl(String objectKey, Integer expirationMinutes);
 
     boolean deleteImage(String objectKey);
@@ -41,4 +46,6 @@ public interface S3Service {
     void moveFromTempToPermanent(String tempObjectKey);
 
     boolean imageExists(String objectKey);
+
+    List<String> listObjectKeys(String prefix);
 }
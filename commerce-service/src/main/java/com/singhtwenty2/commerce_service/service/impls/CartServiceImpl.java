@@ -15,8 +15,8 @@ import com.singhtwenty2.commerce_service.data.dto.catalogue.PreSignedUrlDTO.Pres
 import com.singhtwenty2.commerce_service.data.entity.Cart;
 import com.singhtwenty2.commerce_service.data.entity.CartItem;
 import com.singhtwenty2.commerce_service.data.entity.Product;
-import com.singhtwenty2.commerce_service.data.entity.User;
 import com.singhtwenty2.commerce_service.data.enums.CartType;
+import com.singhtwenty2.commerce_service.data.projection.CartSummaryProjection;
 import com.singhtwenty2.commerce_service.data.repository.CartItemRepository;
 import com.singhtwenty2.commerce_service.data.repository.CartRepository;
 import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
@@ -29,7 +29,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
@@ -52,18 +55,22 @@ public class CartServiceImpl implements CartService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final S3Service s3Service;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int CART_RETENTION_DAYS = 30;
+    private static final int CLEANUP_BATCH_SIZE = 500;
 
     @Override
     public CartResponse addItemToCart(String userId, AddItemRequest request) {
         log.info("Adding item to cart - UserId: {}, ProductId: {}, CartType: {}",
                 userId, request.getProductId(), request.getCartType());
 
-        User user = findUserById(userId);
+        UUID userUuid = UUID.fromString(userId);
         Product product = findProductById(request.getProductId());
 
         validateProductForCart(product, request.getCartType());
 
-        Cart cart = getOrCreateCart(user, request.getCartType());
+        Cart cart = getOrCreateCart(userUuid, request.getCartType());
 
         Optional<CartItem> existingItem = cartItemRepository.findByCartIdAndProductId(
                 cart.getId(), product.getId());
@@ -100,10 +107,9 @@ public class CartServiceImpl implements CartService {
     public CartResponse updateCartItemQuantity(String userId, String cartItemId, UpdateItemRequest request) {
         log.info("Updating cart item quantity - UserId: {}, CartItemId: {}", userId, cartItemId);
 
-        User user = findUserById(userId);
         CartItem cartItem = findCartItemById(cartItemId);
 
-        validateCartItemOwnership(cartItem, user);
+        validateCartItemOwnership(cartItem, UUID.fromString(userId));
 
         if (cartItem.getCart().getCartType() == CartType.WISHLIST) {
             throw new BusinessException("Cannot update quantity for wishlist items");
@@ -123,10 +129,9 @@ public class CartServiceImpl implements CartService {
         log.info("Removing item from cart - UserId: {}, CartItemId: {}, CartType: {}",
                 userId, cartItemId, cartType);
 
-        User user = findUserById(userId);
         CartItem cartItem = findCartItemById(cartItemId);
 
-        validateCartItemOwnership(cartItem, user);
+        validateCartItemOwnership(cartItem, UUID.fromString(userId));
 
         if (cartItem.getCart().getCartType() != cartType) {
             throw new BusinessException("Cart item type mismatch");
@@ -147,17 +152,17 @@ public class CartServiceImpl implements CartService {
         log.info("Moving item between carts - UserId: {}, CartItemId: {}, TargetType: {}",
                 userId, cartItemId, request.getTargetCartType());
 
-        User user = findUserById(userId);
+        UUID userUuid = UUID.fromString(userId);
         CartItem sourceItem = findCartItemById(cartItemId);
 
-        validateCartItemOwnership(sourceItem, user);
+        validateCartItemOwnership(sourceItem, userUuid);
 
         CartType sourceType = sourceItem.getCart().getCartType();
         if (sourceType == request.getTargetCartType()) {
             throw new BusinessException("Source and target cart types are the same");
         }
 
-        Cart targetCart = getOrCreateCart(user, request.getTargetCartType());
+        Cart targetCart = getOrCreateCart(userUuid, request.getTargetCartType());
         Product product = sourceItem.getProduct();
 
         Optional<CartItem> existingTargetItem = cartItemRepository.findByCartIdAndProductId(
@@ -199,8 +204,7 @@ public class CartServiceImpl implements CartService {
     public CartResponse getCart(String userId, CartType cartType) {
         log.debug("Fetching cart - UserId: {}, CartType: {}", userId, cartType);
 
-        User user = findUserById(userId);
-        Optional<Cart> cartOpt = cartRepository.findByUserAndCartTypeWithItems(user, cartType);
+        Optional<Cart> cartOpt = cartRepository.findByUserIdAndCartTypeWithItems(UUID.fromString(userId), cartType);
 
         if (cartOpt.isEmpty()) {
             return createEmptyCartResponse(userId, cartType);
@@ -213,11 +217,8 @@ public class CartServiceImpl implements CartService {
     public List<CartSummary> getAllCartSummaries(String userId) {
         log.debug("Fetching all cart summaries - UserId: {}", userId);
 
-        User user = findUserById(userId);
-        List<Cart> carts = cartRepository.findAllByUserAndIsActive(user);
-
-        return carts.stream()
-                .map(this::mapCartToSummary)
+        return cartRepository.summarizeActiveCartsByUserId(UUID.fromString(userId)).stream()
+                .map(this::mapProjectionToSummary)
                 .collect(Collectors.toList());
     }
 
@@ -225,8 +226,7 @@ public class CartServiceImpl implements CartService {
     public CartResponse clearCart(String userId, CartType cartType) {
         log.info("Clearing cart - UserId: {}, CartType: {}", userId, cartType);
 
-        User user = findUserById(userId);
-        Optional<Cart> cartOpt = cartRepository.findByUserAndCartTypeAndIsActive(user, cartType, true);
+        Optional<Cart> cartOpt = cartRepository.findByUserIdAndCartTypeAndIsActiveTrue(UUID.fromString(userId), cartType);
 
         if (cartOpt.isEmpty()) {
             return createEmptyCartResponse(userId, cartType);
@@ -246,8 +246,7 @@ public class CartServiceImpl implements CartService {
     public String syncCartWithProductPrices(String userId, CartType cartType) {
         log.info("Syncing cart prices - UserId: {}, CartType: {}", userId, cartType);
 
-        User user = findUserById(userId);
-        Optional<Cart> cartOpt = cartRepository.findByUserAndCartTypeWithItems(user, cartType);
+        Optional<Cart> cartOpt = cartRepository.findByUserIdAndCartTypeWithItems(UUID.fromString(userId), cartType);
 
         if (cartOpt.isEmpty()) {
             return getEmptyCartMessage(cartType);
@@ -274,22 +273,35 @@ public class CartServiceImpl implements CartService {
     }
 
     @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupOldCarts() {
         log.info("Starting cleanup of old carts");
 
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-        List<Cart> oldCarts = cartRepository.findInactiveCartsOlderThan(cutoffDate);
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(CART_RETENTION_DAYS);
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+
+        long totalCarts = 0;
+        long totalItems = 0;
+        int chunks = 0;
+
+        while (true) {
+            int[] purged = chunkTransaction.execute(status -> new int[]{
+                    cartItemRepository.deleteItemsOfInactiveCartsOlderThan(cutoffDate, CLEANUP_BATCH_SIZE),
+                    cartRepository.deleteEmptyInactiveCartsOlderThan(cutoffDate, CLEANUP_BATCH_SIZE)
+            });
+
+            if (purged == null || (purged[0] == 0 && purged[1] == 0)) {
+                break;
+            }
 
-        if (!oldCarts.isEmpty()) {
-            cartRepository.deleteAll(oldCarts);
-            log.info("Cleaned up {} old carts", oldCarts.size());
+            chunks++;
+            totalItems += purged[0];
+            totalCarts += purged[1];
+            log.debug("Cart cleanup chunk {} - removed {} carts and {} items (running total: {} carts, {} items)",
+                    chunks, purged[1], purged[0], totalCarts, totalItems);
         }
-    }
 
-    private User findUserById(String userId) {
-        return userRepository.findById(UUID.fromString(userId))
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+        log.info("Cleaned up {} old carts and {} cart items in {} chunks", totalCarts, totalItems, chunks);
     }
 
     private Product findProductById(String productId) {
@@ -308,17 +320,17 @@ public class CartServiceImpl implements CartService {
         }
     }
 
-    private void validateCartItemOwnership(CartItem cartItem, User user) {
-        if (!cartItem.getCart().getUser().getId().equals(user.getId())) {
+    private void validateCartItemOwnership(CartItem cartItem, UUID userId) {
+        if (!cartItem.getCart().getUser().getId().equals(userId)) {
             throw new BusinessException("Cart item does not belong to the user");
         }
     }
 
-    private Cart getOrCreateCart(User user, CartType cartType) {
-        return cartRepository.findByUserAndCartTypeAndIsActive(user, cartType, true)
+    private Cart getOrCreateCart(UUID userId, CartType cartType) {
+        return cartRepository.findByUserIdAndCartTypeAndIsActiveTrue(userId, cartType)
                 .orElseGet(() -> {
                     Cart newCart = new Cart();
-                    newCart.setUser(user);
+                    newCart.setUser(userRepository.getReferenceById(userId));
                     newCart.setCartType(cartType);
                     newCart.setIsActive(true);
                     return cartRepository.save(newCart);
@@ -396,18 +408,16 @@ public class CartServiceImpl implements CartService {
                 .build();
     }
 
-    private CartSummary mapCartToSummary(Cart cart) {
-        BigDecimal totalAmount = cart.getCartType() == CartType.CART ?
-                cart.getCartItems().stream()
-                        .map(CartItem::getTotalPrice)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add) :
+    private CartSummary mapProjectionToSummary(CartSummaryProjection projection) {
+        BigDecimal totalAmount = projection.getCartType() == CartType.CART && projection.getTotalAmount() != null ?
+                projection.getTotalAmount() :
                 BigDecimal.ZERO;
 
         return CartSummary.builder()
-                .cartType(cart.getCartType())
-                .totalItems(cart.getTotalItems())
+                .cartType(projection.getCartType())
+                .totalItems(projection.getTotalItems() != null ? projection.getTotalItems().intValue() : 0)
                 .totalAmount(totalAmount)
-                .lastUpdated(cart.getUpdatedAt())
+                .lastUpdated(projection.getLastUpdated())
                 .build();
     }
 
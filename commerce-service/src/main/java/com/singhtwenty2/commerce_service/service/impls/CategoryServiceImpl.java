@@ -12,11 +12,16 @@
 package com.singhtwenty2.commerce_service.service.impls;
 
 import com.singhtwenty2.commerce_service.data.entity.Category;
+import com.singhtwenty2.commerce_service.data.projection.CategoryManufacturerCountProjection;
 import com.singhtwenty2.commerce_service.data.repository.CategoryRepository;
+import com.singhtwenty2.commerce_service.event.ProductChangedEvent;
 import com.singhtwenty2.commerce_service.service.catalogue.CategoryService;
+import com.singhtwenty2.commerce_service.util.slug.SlugAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -25,7 +30,9 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -39,6 +46,8 @@ import static com.singhtwenty2.commerce_service.data.dto.catalogue.CategoryDTO.*
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final SlugAllocator slugAllocator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CategoryResponse createCategory(CreateCategoryRequest createRequest) {
@@ -46,8 +55,8 @@ public class CategoryServiceImpl implements CategoryService {
 
         validateCreateRequest(createRequest);
 
-        String slug = generateSlug(createRequest.getName());
-        ensureUniqueSlug(slug, null);
+        String slug = slugAllocator.allocate("category", generateSlug(createRequest.getName()),
+                categoryRepository::findSlugFamily);
 
         Category savedCategory = saveCategoryData(createRequest, slug);
 
@@ -87,7 +96,7 @@ public class CategoryServiceImpl implements CategoryService {
         log.debug("Fetching all categories with pagination");
 
         Page<Category> categoryPage = categoryRepository.findAll(pageable);
-        return categoryPage.map(this::buildCategoryResponse);
+        return buildCategoryResponsePage(categoryPage);
     }
 
     @Override
@@ -96,7 +105,7 @@ public class CategoryServiceImpl implements CategoryService {
         log.debug("Fetching active categories with pagination");
 
         Page<Category> categoryPage = categoryRepository.findByIsActive(true, pageable);
-        return categoryPage.map(this::buildCategoryResponse);
+        return buildCategoryResponsePage(categoryPage);
     }
 
     @Override
@@ -109,7 +118,7 @@ public class CategoryServiceImpl implements CategoryService {
                 StringUtils.hasText(searchTerm) ? searchTerm.trim() : null,
                 pageable
         );
-        return categoryPage.map(this::buildCategoryResponse);
+        return buildCategoryResponsePage(categoryPage);
     }
 
     @Override
@@ -118,9 +127,7 @@ public class CategoryServiceImpl implements CategoryService {
         log.debug("Fetching active categories ordered by display order");
 
         List<Category> categories = categoryRepository.findByIsActiveOrderByDisplayOrderAsc(true);
-        return categories.stream()
-                .map(this::buildCategoryResponse)
-                .collect(Collectors.toList());
+        return buildCategoryResponses(categories);
     }
 
     @Override
@@ -138,9 +145,8 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         if (needsNewSlug) {
-            String newSlug = generateSlug(category.getName());
-            ensureUniqueSlug(newSlug, category.getId());
-            category.setSlug(newSlug);
+            category.setSlug(slugAllocator.allocate("category", generateSlug(category.getName()),
+                    category.getSlug(), categoryRepository::findSlugFamily));
         }
 
         if (updateRequest.getDescription() != null) {
@@ -170,6 +176,9 @@ public class CategoryServiceImpl implements CategoryService {
 
         Category updatedCategory = categoryRepository.save(category);
 
+        categoryRepository.findProductIdsByCategoryId(updatedCategory.getId())
+                .forEach(productId -> eventPublisher.publishEvent(new ProductChangedEvent(productId)));
+
         log.info("Category updated successfully with ID: {}", updatedCategory.getId());
         return buildCategoryResponse(updatedCategory);
     }
@@ -229,27 +238,34 @@ public class CategoryServiceImpl implements CategoryService {
                 .replaceAll("^-|-$", "");
     }
 
-    private void ensureUniqueSlug(String baseSlug, UUID excludeCategoryId) {
-        String slug = baseSlug;
-        int counter = 1;
-
-        while (true) {
-            boolean exists = excludeCategoryId != null ?
-                    categoryRepository.existsBySlugAndIdNot(slug, excludeCategoryId) :
-                    categoryRepository.existsBySlug(slug);
+    private CategoryResponse buildCategoryResponse(Category category) {
+        return buildCategoryResponse(category, categoryRepository.countManufacturersByCategoryId(category.getId()));
+    }
 
-            if (!exists) {
-                break;
-            }
+    private Page<CategoryResponse> buildCategoryResponsePage(Page<Category> categoryPage) {
+        return new PageImpl<>(buildCategoryResponses(categoryPage.getContent()),
+                categoryPage.getPageable(), categoryPage.getTotalElements());
+    }
 
-            slug = baseSlug + "-" + counter;
-            counter++;
+    private List<CategoryResponse> buildCategoryResponses(List<Category> categories) {
+        if (categories.isEmpty()) {
+            return new ArrayList<>();
         }
-    }
 
-    private CategoryResponse buildCategoryResponse(Category category) {
-        Long manufacturerCount = categoryRepository.countManufacturersByCategoryId(category.getId());
+        Map<UUID, Long> manufacturerCounts = categoryRepository.countManufacturersByCategoryIds(
+                        categories.stream().map(Category::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(
+                        CategoryManufacturerCountProjection::getCategoryId,
+                        CategoryManufacturerCountProjection::getManufacturerCount
+                ));
+
+        return categories.stream()
+                .map(category -> buildCategoryResponse(category, manufacturerCounts.getOrDefault(category.getId(), 0L)))
+                .collect(Collectors.toList());
+    }
 
+    private CategoryResponse buildCategoryResponse(Category category, Long manufacturerCount) {
         return CategoryResponse.builder()
                 .categoryId(category.getId().toString())
                 .name(category.getName())
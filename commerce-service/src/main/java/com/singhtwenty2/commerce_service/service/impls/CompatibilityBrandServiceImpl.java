@@ -13,9 +13,12 @@ package com.singhtwenty2.commerce_service.service.impls;
 
 import com.singhtwenty2.commerce_service.data.entity.CompatibilityBrand;
 import com.singhtwenty2.commerce_service.data.repository.CompatibilityBrandRepository;
+import com.singhtwenty2.commerce_service.event.ProductChangedEvent;
 import com.singhtwenty2.commerce_service.service.catalogue.CompatibilityBrandService;
+import com.singhtwenty2.commerce_service.util.slug.SlugAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -37,6 +40,8 @@ import static com.singhtwenty2.commerce_service.data.dto.catalogue.Compatibility
 public class CompatibilityBrandServiceImpl implements CompatibilityBrandService {
 
     private final CompatibilityBrandRepository compatibilityBrandRepository;
+    private final SlugAllocator slugAllocator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CompatibilityBrandResponse createCompatibilityBrand(CreateCompatibilityBrandRequest createRequest) {
@@ -44,8 +49,8 @@ public class CompatibilityBrandServiceImpl implements CompatibilityBrandService
 
         validateCreateRequest(createRequest);
 
-        String slug = generateSlug(createRequest.getName());
-        ensureUniqueSlug(slug, null);
+        String slug = slugAllocator.allocate("compatibility-brand", generateSlug(createRequest.getName()),
+                compatibilityBrandRepository::findSlugFamily);
 
         CompatibilityBrand savedCompatibilityBrand = saveCompatibilityBrandData(createRequest, slug);
 
@@ -115,15 +120,17 @@ public class CompatibilityBrandServiceImpl implements CompatibilityBrandService
         }
 
         if (needsNewSlug) {
-            String newSlug = generateSlug(compatibilityBrand.getName());
-            ensureUniqueSlug(newSlug, compatibilityBrand.getId());
-            compatibilityBrand.setSlug(newSlug);
+            compatibilityBrand.setSlug(slugAllocator.allocate("compatibility-brand", generateSlug(compatibilityBrand.getName()),
+                    compatibilityBrand.getSlug(), compatibilityBrandRepository::findSlugFamily));
         }
 
         compatibilityBrand.setUpdatedAt(LocalDateTime.now());
 
         CompatibilityBrand updatedCompatibilityBrand = compatibilityBrandRepository.save(compatibilityBrand);
 
+        compatibilityBrandRepository.findProductIdsByCompatibilityBrandId(updatedCompatibilityBrand.getId())
+                .forEach(productId -> eventPublisher.publishEvent(new ProductChangedEvent(productId)));
+
         log.info("Compatibility brand updated successfully with ID: {}", updatedCompatibilityBrand.getId());
         return buildCompatibilityBrandResponse(updatedCompatibilityBrand);
     }
@@ -170,24 +177,6 @@ public class CompatibilityBrandServiceImpl implements CompatibilityBrandService
                 .replaceAll("^-|-$", "");
     }
 
-    private void ensureUniqueSlug(String baseSlug, UUID excludeCompatibilityBrandId) {
-        String slug = baseSlug;
-        int counter = 1;
-
-        while (true) {
-            boolean exists = excludeCompatibilityBrandId != null ?
-                    compatibilityBrandRepository.existsBySlugAndIdNot(slug, excludeCompatibilityBrandId) :
-                    compatibilityBrandRepository.existsBySlug(slug);
-
-            if (!exists) {
-                break;
-            }
-
-            slug = baseSlug + "-" + counter;
-            counter++;
-        }
-    }
-
     private CompatibilityBrandResponse buildCompatibilityBrandResponse(CompatibilityBrand compatibilityBrand) {
         Long productCount = compatibilityBrandRepository.countProductsByCompatibilityBrandId(compatibilityBrand.getId());
 
@@ -17,6 +17,7 @@ import com.singhtwenty2.commerce_service.data.entity.Category;
 import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
 import com.singhtwenty2.commerce_service.data.entity.Product;
 import com.singhtwenty2.commerce_service.data.enums.VariantType;
+import com.singhtwenty2.commerce_service.data.projection.CategoryManufacturerCountProjection;
 import com.singhtwenty2.commerce_service.data.repository.CategorySearchRepository;
 import com.singhtwenty2.commerce_service.data.repository.ManufacturerSearchRepository;
 import com.singhtwenty2.commerce_service.data.repository.ProductSearchRepository;
@@ -225,9 +226,23 @@ public class GlobalSearchServiceImpl implements GlobalSearchService {
         try {
             List<Category> categories = categorySearchRepository.searchCategories(searchTerm);
 
-            return categories.stream()
+            List<Category> limitedCategories = categories.stream()
                     .limit(limit)
-                    .map(this::buildCategorySearchResult)
+                    .collect(Collectors.toList());
+            if (limitedCategories.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            Map<UUID, Long> manufacturerCounts = categorySearchRepository.countActiveManufacturersByCategoryIds(
+                            limitedCategories.stream().map(Category::getId).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(
+                            CategoryManufacturerCountProjection::getCategoryId,
+                            CategoryManufacturerCountProjection::getManufacturerCount
+                    ));
+
+            return limitedCategories.stream()
+                    .map(category -> buildCategorySearchResult(category, manufacturerCounts.getOrDefault(category.getId(), 0L)))
                     .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("Error searching categories: {}", e.getMessage(), e);
@@ -317,9 +332,7 @@ public class GlobalSearchServiceImpl implements GlobalSearchService {
                 .build();
     }
 
-    private CategorySearchResult buildCategorySearchResult(Category category) {
-        Long manufacturerCount = categorySearchRepository.countActiveManufacturersByCategoryId(category.getId());
-
+    private CategorySearchResult buildCategorySearchResult(Category category, Long manufacturerCount) {
         return CategorySearchResult.builder()
                 .categoryId(category.getId().toString())
                 .name(category.getName())
@@ -21,6 +21,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageDTO.*;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ManufacturerImage.ManufacturerImageResult;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.PreSignedUrlDTO.PresignedUrlResponse;
@@ -123,6 +127,21 @@ public class ManufacturerImageServiceImpl implements ManufacturerImageService {
         }
     }
 
+    @Override
+    public Map<String, String> generateLogoAccessUrls(Collection<String> objectKeys, Integer expirationMinutes) {
+        Integer expiration = expirationMinutes != null ? expirationMinutes : defaultExpirationMinutes;
+
+        Map<String, String> accessUrls = new HashMap<>();
+        for (String objectKey : objectKeys) {
+            try {
+                accessUrls.put(objectKey, s3Service.presignReadUrl(objectKey, expiration));
+            } catch (Exception e) {
+                log.error("Failed to generate logo access URL for objectKey {}: {}", objectKey, e.getMessage());
+            }
+        }
+        return accessUrls;
+    }
+
     @Override
     public boolean validateManufacturerLogoFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
@@ -13,13 +13,19 @@ package com.singhtwenty2.commerce_service.service.impls;
 
 import com.singhtwenty2.commerce_service.data.entity.Category;
 import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
+import com.singhtwenty2.commerce_service.data.projection.ManufacturerProductCountProjection;
 import com.singhtwenty2.commerce_service.data.repository.CategoryRepository;
 import com.singhtwenty2.commerce_service.data.repository.ManufacturerRepository;
+import com.singhtwenty2.commerce_service.event.ProductChangedEvent;
 import com.singhtwenty2.commerce_service.service.catalogue.ManufacturerImageService;
 import com.singhtwenty2.commerce_service.service.catalogue.ManufacturerService;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.ProductCategoryService;
+import com.singhtwenty2.commerce_service.util.slug.SlugAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -30,6 +36,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -46,6 +53,9 @@ public class ManufacturerServiceImpl implements ManufacturerService {
     private final ManufacturerRepository manufacturerRepository;
     private final CategoryRepository categoryRepository;
     private final ManufacturerImageService manufacturerImageService;
+    private final SlugAllocator slugAllocator;
+    private final ProductCategoryService productCategoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ManufacturerResponse createManufacturer(CreateManufacturerRequest createManufacturerRequest) {
@@ -55,9 +65,9 @@ public class ManufacturerServiceImpl implements ManufacturerService {
 
         List<Category> categories = findCategoriesByIds(createManufacturerRequest.getCategoryIds());
 
-        String slug = generateSlug(createManufacturerRequest.getName());
-        validateUniqueSlug(slug);
         validateUniqueName(createManufacturerRequest.getName());
+        String slug = slugAllocator.allocate("manufacturer", generateSlug(createManufacturerRequest.getName()),
+                manufacturerRepository::findSlugFamily);
 
         Integer displayOrder = createManufacturerRequest.getDisplayOrder() != null
                 ? createManufacturerRequest.getDisplayOrder()
@@ -115,7 +125,7 @@ public class ManufacturerServiceImpl implements ManufacturerService {
         log.debug("Fetching all manufacturers with pagination");
 
         Page<Manufacturer> manufacturers = manufacturerRepository.findAll(pageable);
-        return manufacturers.map(this::buildManufacturerResponse);
+        return buildManufacturerResponsePage(manufacturers);
     }
 
     @Override
@@ -124,9 +134,7 @@ public class ManufacturerServiceImpl implements ManufacturerService {
         log.debug("Fetching all active manufacturers");
 
         List<Manufacturer> manufacturers = manufacturerRepository.findByIsActiveTrue();
-        return manufacturers.stream()
-                .map(this::buildManufacturerResponse)
-                .collect(Collectors.toList());
+        return buildManufacturerResponses(manufacturers);
     }
 
     @Override
@@ -135,7 +143,7 @@ public class ManufacturerServiceImpl implements ManufacturerService {
         log.debug("Fetching active manufacturers with pagination");
 
         Page<Manufacturer> manufacturers = manufacturerRepository.findByIsActiveTrue(pageable);
-        return manufacturers.map(this::buildManufacturerResponse);
+        return buildManufacturerResponsePage(manufacturers);
     }
 
     @Override
@@ -145,7 +153,7 @@ public class ManufacturerServiceImpl implements ManufacturerService {
 
         List<Category> categories = findCategoriesByIds(categoryIds);
         Page<Manufacturer> manufacturers = manufacturerRepository.findByCategoriesIn(categories, pageable);
-        return manufacturers.map(this::buildManufacturerResponse);
+        return buildManufacturerResponsePage(manufacturers);
     }
 
     @Override
@@ -155,7 +163,7 @@ public class ManufacturerServiceImpl implements ManufacturerService {
 
         List<Category> categories = findCategoriesByIds(categoryIds);
         Page<Manufacturer> manufacturers = manufacturerRepository.findByCategoriesInAndIsActiveTrue(categories, pageable);
-        return manufacturers.map(this::buildManufacturerResponse);
+        return buildManufacturerResponsePage(manufacturers);
     }
 
     @Override
@@ -173,7 +181,7 @@ public class ManufacturerServiceImpl implements ManufacturerService {
         }
 
         Page<Manufacturer> manufacturers = manufacturerRepository.findManufacturersWithFilters(name, categoryUuid, isActive, pageable);
-        return manufacturers.map(this::buildManufacturerResponse);
+        return buildManufacturerResponsePage(manufacturers);
     }
 
     @Override
@@ -187,6 +195,12 @@ public class ManufacturerServiceImpl implements ManufacturerService {
         handleLogoUpdate(existingManufacturer, updateManufacturerRequest);
 
         Manufacturer updatedManufacturer = manufacturerRepository.save(existingManufacturer);
+        if (updateManufacturerRequest.getCategoryIds() != null) {
+            productCategoryService.refreshManufacturer(updatedManufacturer.getId());
+        }
+
+        manufacturerRepository.findProductIdsByManufacturerId(updatedManufacturer.getId())
+                .forEach(productId -> eventPublisher.publishEvent(new ProductChangedEvent(productId)));
 
         log.info("Manufacturer updated successfully with ID: {}", updatedManufacturer.getId());
 
@@ -234,9 +248,7 @@ public class ManufacturerServiceImpl implements ManufacturerService {
         List<Category> categories = findCategoriesByIds(categoryIds);
         List<Manufacturer> manufacturers = manufacturerRepository.findByCategoriesInOrderByDisplayOrderAsc(categories);
 
-        return manufacturers.stream()
-                .map(this::buildManufacturerResponse)
-                .collect(Collectors.toList());
+        return buildManufacturerResponses(manufacturers);
     }
 
     private void handleLogoUpdate(Manufacturer manufacturer, UpdateManufacturerRequest request) {
@@ -324,12 +336,6 @@ public class ManufacturerServiceImpl implements ManufacturerService {
                 .trim();
     }
 
-    private void validateUniqueSlug(String slug) {
-        if (manufacturerRepository.existsBySlug(slug)) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Manufacturer with this slug already exists");
-        }
-    }
-
     private void validateUniqueName(String name) {
         if (manufacturerRepository.existsByName(name)) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Manufacturer with this name already exists");
@@ -363,12 +369,55 @@ public class ManufacturerServiceImpl implements ManufacturerService {
     private ManufacturerResponse buildManufacturerResponse(Manufacturer manufacturer) {
         Long productCount = manufacturerRepository.countProductsByManufacturerId(manufacturer.getId());
 
+        String logoAccessUrl = StringUtils.hasText(manufacturer.getLogoObjectKey()) ?
+                manufacturerImageService.generateLogoAccessUrl(manufacturer.getLogoObjectKey(), 60) : null;
+
+        return buildManufacturerResponse(manufacturer, productCount, logoAccessUrl);
+    }
+
+    private Page<ManufacturerResponse> buildManufacturerResponsePage(Page<Manufacturer> manufacturers) {
+        return new PageImpl<>(buildManufacturerResponses(manufacturers.getContent()),
+                manufacturers.getPageable(), manufacturers.getTotalElements());
+    }
+
+    private List<ManufacturerResponse> buildManufacturerResponses(List<Manufacturer> manufacturers) {
+        if (manufacturers.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<UUID> manufacturerIds = manufacturers.stream()
+                .map(Manufacturer::getId)
+                .collect(Collectors.toList());
+
+        manufacturerRepository.findAllWithCategoriesByIdIn(manufacturerIds);
+
+        Map<UUID, Long> productCounts = manufacturerRepository.countProductsByManufacturerIds(manufacturerIds).stream()
+                .collect(Collectors.toMap(
+                        ManufacturerProductCountProjection::getManufacturerId,
+                        ManufacturerProductCountProjection::getProductCount
+                ));
+
+        Map<String, String> logoAccessUrls = manufacturerImageService.generateLogoAccessUrls(
+                manufacturers.stream()
+                        .map(Manufacturer::getLogoObjectKey)
+                        .filter(StringUtils::hasText)
+                        .collect(Collectors.toSet()),
+                60
+        );
+
+        return manufacturers.stream()
+                .map(manufacturer -> buildManufacturerResponse(
+                        manufacturer,
+                        productCounts.getOrDefault(manufacturer.getId(), 0L),
+                        logoAccessUrls.get(manufacturer.getLogoObjectKey())
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private ManufacturerResponse buildManufacturerResponse(Manufacturer manufacturer, Long productCount, String logoAccessUrl) {
         LogoInfo logoInfo = null;
-        String logoAccessUrl;
 
         if (StringUtils.hasText(manufacturer.getLogoObjectKey())) {
-            logoAccessUrl = manufacturerImageService.generateLogoAccessUrl(manufacturer.getLogoObjectKey(), 60);
-
             logoInfo = LogoInfo.builder()
                     .objectKey(manufacturer.getLogoObjectKey())
                     .accessUrl(logoAccessUrl)
@@ -425,11 +474,8 @@ public class ManufacturerServiceImpl implements ManufacturerService {
             validateUniqueNameForUpdate(request.getName(), manufacturer.getId());
             manufacturer.setName(request.getName().trim());
 
-            String newSlug = generateSlug(request.getName());
-            if (!newSlug.equals(manufacturer.getSlug())) {
-                validateUniqueSlugForUpdate(newSlug, manufacturer.getId());
-                manufacturer.setSlug(newSlug);
-            }
+            manufacturer.setSlug(slugAllocator.allocate("manufacturer", generateSlug(request.getName()),
+                    manufacturer.getSlug(), manufacturerRepository::findSlugFamily));
             updated = true;
         }
 
@@ -472,10 +518,4 @@ public class ManufacturerServiceImpl implements ManufacturerService {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Manufacturer with this name already exists");
         }
     }
-
-    private void validateUniqueSlugForUpdate(String slug, UUID manufacturerId) {
-        if (manufacturerRepository.existsBySlugAndIdNot(slug, manufacturerId)) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Manufacturer with this slug already exists");
-        }
-    }
 }
\ No newline at end of file
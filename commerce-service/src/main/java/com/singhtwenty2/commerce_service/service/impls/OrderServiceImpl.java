@@ -19,7 +19,6 @@ import com.singhtwenty2.commerce_service.data.enums.OrderStatus;
 import com.singhtwenty2.commerce_service.data.enums.OrderType;
 import com.singhtwenty2.commerce_service.data.repository.CartRepository;
 import com.singhtwenty2.commerce_service.data.repository.OrderRepository;
-import com.singhtwenty2.commerce_service.data.repository.UserRepository;
 import com.singhtwenty2.commerce_service.service.file_handeling.S3Service;
 import com.singhtwenty2.commerce_service.service.grpc.TelemetryClientService;
 import com.singhtwenty2.commerce_service.service.notification.EmailService;
@@ -54,7 +53,6 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final CartRepository cartRepository;
-    private final UserRepository userRepository;
     private final S3Service s3Service;
     private final TelemetryClientService telemetryClientService;
     private final RedisQueueService redisQueueService;
@@ -66,11 +64,11 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponse createOrder(CreateOrderRequest createRequest, String userId) {
         log.debug("Creating order for user: {} from cart: {}", userId, createRequest.getCartId());
 
-        User user = findUserById(userId);
-        Cart cart = findCartById(createRequest.getCartId(), user.getId());
+        UUID userUuid = parseUUID(userId, "Invalid user ID format");
+        Cart cart = findCartById(createRequest.getCartId(), userUuid);
 
         validateCartForOrder(cart);
-        Order savedOrder = createOrderFromCart(createRequest, user, cart);
+        Order savedOrder = createOrderFromCart(createRequest, cart.getUser(), cart);
         clearCart(cart);
 
         telemetryClientService.publishNewOrderEventForAdmin(
@@ -89,11 +87,11 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponse createPickupOrder(CreatePickupOrderRequest createRequest, String userId) {
         log.debug("Creating pickup order for user: {} from cart: {}", userId, createRequest.getCartId());
 
-        User user = findUserById(userId);
-        Cart cart = findCartById(createRequest.getCartId(), user.getId());
+        UUID userUuid = parseUUID(userId, "Invalid user ID format");
+        Cart cart = findCartById(createRequest.getCartId(), userUuid);
 
         validateCartForOrder(cart);
-        Order savedOrder = createPickupOrderFromCart(createRequest, user, cart);
+        Order savedOrder = createPickupOrderFromCart(createRequest, cart.getUser(), cart);
         clearCart(cart);
 
         telemetryClientService.publishNewOrderEventForAdmin(
@@ -396,12 +394,6 @@ public class OrderServiceImpl implements OrderService {
                 .build();
     }
 
-    private User findUserById(String userId) {
-        UUID userUuid = parseUUID(userId, "Invalid user ID format");
-        return userRepository.findById(userUuid)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
-    }
-
     private Cart findCartById(String cartId, UUID userId) {
         UUID cartUuid = parseUUID(cartId, "Invalid cart ID format");
         return cartRepository.findByIdAndUserIdAndCartTypeAndIsActiveTrue(cartUuid, userId, CartType.CART)
@@ -15,39 +15,46 @@ import com.singhtwenty2.commerce_service.data.entity.CompatibilityBrand;
 import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
 import com.singhtwenty2.commerce_service.data.entity.Product;
 import com.singhtwenty2.commerce_service.data.entity.ProductImage;
+import com.singhtwenty2.commerce_service.data.enums.ImportFormat;
 import com.singhtwenty2.commerce_service.data.enums.VariantType;
 import com.singhtwenty2.commerce_service.data.repository.CompatibilityBrandRepository;
 import com.singhtwenty2.commerce_service.data.repository.ManufacturerRepository;
 import com.singhtwenty2.commerce_service.data.repository.ProductImageRepository;
 import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
+import com.singhtwenty2.commerce_service.event.ProductChangedEvent;
 import com.singhtwenty2.commerce_service.exception.BusinessException;
 import com.singhtwenty2.commerce_service.exception.ResourceNotFoundException;
 import com.singhtwenty2.commerce_service.service.catalogue.ProductService;
 import com.singhtwenty2.commerce_service.service.catalogue.helper.*;
 import com.singhtwenty2.commerce_service.service.file_handeling.ImageProcessingService;
 import com.singhtwenty2.commerce_service.service.file_handeling.S3Service;
+import com.singhtwenty2.commerce_service.util.slug.SlugAllocator;
 import com.singhtwenty2.commerce_service.util.slug.SlugGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.UUID;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageDTO.ImageUploadResult;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageDTO.ProcessedImageResult;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageUploadJobDTO.ImageUploadJobResponse;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.PreSignedUrlDTO.PresignedUrlResponse;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductImportDTO.ImportReport;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.*;
 
 @Service
@@ -63,12 +70,23 @@ public class ProductServiceImpl implements ProductService {
     private final S3Service s3Service;
     private final ImageProcessingService imageProcessingService;
     private final SlugGenerator slugGenerator;
+    private final SlugAllocator slugAllocator;
 
     private final ProductValidationService validationService;
     private final ProductMappingService mappingService;
     private final SkuGeneratorService skuGeneratorService;
     private final ProductSearchService searchService;
     private final ProductImageService imageService;
+    private final ProductListingService listingService;
+    private final ProductDocumentService documentService;
+    private final ProductFacetService facetService;
+    private final ProductImportService importService;
+    private final ProductStatsService statsService;
+    private final ProductImageReconciliationService imageReconciliationService;
+    private final ProductImageUploadJobService imageUploadJobService;
+    private final ProductFilterIndexService filterIndexService;
+    private final ProductCategoryService productCategoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ProductResponse createProduct(CreateProductRequest request) {
@@ -110,10 +128,19 @@ public class ProductServiceImpl implements ProductService {
             product = productRepository.save(product);
         }
 
+        productCategoryService.refreshProducts(List.of(product.getId()));
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
         log.info("Product created successfully with ID: {}", product.getId());
         return mappingService.mapProductToResponse(product, false);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportReport importProducts(InputStream input, ImportFormat format) {
+        log.info("Starting bulk product import in {} format", format);
+        return importService.importProducts(input, format);
+    }
+
     @Override
     public ProductResponse createVariant(String parentProductId, CreateVariantRequest request) {
         log.info("Creating variant for parent product: {}", parentProductId);
@@ -150,6 +177,8 @@ public class ProductServiceImpl implements ProductService {
         productRepository.save(parentProduct);
         variant = productRepository.save(variant);
 
+        productCategoryService.refreshProducts(List.of(variant.getId()));
+        eventPublisher.publishEvent(new ProductChangedEvent(variant.getId()));
         log.info("Variant created successfully with ID: {}", variant.getId());
         return mappingService.mapProductToResponse(variant, false);
     }
@@ -165,9 +194,12 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public ProductResponse getProductBySlug(String slug) {
-        Product product = productRepository.findBySlug(slug)
-                .orElseThrow(() -> new ResourceNotFoundException("Product not found with slug: " + slug));
-        return mappingService.mapProductToResponse(product, true);
+        return documentService.findBySlug(slug)
+                .orElseGet(() -> {
+                    Product product = productRepository.findBySlug(slug)
+                            .orElseThrow(() -> new ResourceNotFoundException("Product not found with slug: " + slug));
+                    return documentService.storeIfAbsent(product);
+                });
     }
 
     @Override
@@ -185,7 +217,9 @@ public class ProductServiceImpl implements ProductService {
         Product product = productRepository.findById(UUID.fromString(productId))
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with ID: " + productId));
 
-        if (request.getManufacturerId() != null && !request.getManufacturerId().equals(product.getManufacturer().getId().toString())) {
+        boolean manufacturerChanged = request.getManufacturerId() != null &&
+                                      !request.getManufacturerId().equals(product.getManufacturer().getId().toString());
+        if (manufacturerChanged) {
             Manufacturer newManufacturer = manufacturerRepository.findById(UUID.fromString(request.getManufacturerId()))
                     .orElseThrow(() -> new ResourceNotFoundException("Manufacturer not found"));
             validationService.validateProductUpdateDataWithManufacturerChange(request, product, newManufacturer);
@@ -204,6 +238,10 @@ public class ProductServiceImpl implements ProductService {
         }
 
         product = productRepository.save(product);
+        if (manufacturerChanged) {
+            productCategoryService.refreshProducts(List.of(product.getId()));
+        }
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
         log.info("Product updated successfully with ID: {}", productId);
         return mappingService.mapProductToResponse(product, true);
     }
@@ -224,7 +262,9 @@ public class ProductServiceImpl implements ProductService {
         }
 
         imageService.deleteProductOwnedImages(product);
+        productCategoryService.removeProducts(List.of(product.getId()));
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
         log.info("Product deleted successfully with ID: {}", productId);
     }
 
@@ -241,35 +281,76 @@ public class ProductServiceImpl implements ProductService {
 
         Product parentProduct = variant.getParentProduct();
         imageService.deleteVariantSpecificImages(variant);
+        productCategoryService.removeProducts(List.of(variant.getId()));
         productRepository.delete(variant);
 
         if (parentProduct != null) {
             parentProduct.removeVariant(variant);
             productRepository.save(parentProduct);
+            eventPublisher.publishEvent(new ProductChangedEvent(parentProduct.getId()));
         }
 
+        eventPublisher.publishEvent(new ProductChangedEvent(variant.getId()));
         log.info("Variant deleted successfully with ID: {}", variantId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ProductSummary> getAllProducts(ProductSearchFilters filters, Pageable pageable) {
+        Optional<Page<UUID>> indexedPage = filterIndexService.findProductIds(filters, pageable);
+        if (indexedPage.isPresent()) {
+            List<ProductSummary> summaries = listingService.mapToSummaries(
+                    findProductsInOrder(indexedPage.get().getContent()));
+            return new PageImpl<>(summaries, pageable, indexedPage.get().getTotalElements());
+        }
+
         Specification<Product> spec = searchService.buildProductSpecificationExcludingVariants(filters);
         Page<Product> productPage = productRepository.findAll(spec, pageable);
 
-        List<ProductSummary> summaries = productPage.getContent().stream()
-                .map(mappingService::mapProductToSummary)
-                .collect(Collectors.toList());
+        List<ProductSummary> summaries = listingService.mapToSummaries(productPage.getContent());
 
         return new PageImpl<>(summaries, pageable, productPage.getTotalElements());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ProductSummary> browseProducts(ProductSearchFilters filters, Pageable pageable) {
+        Optional<Page<UUID>> indexedPage = filterIndexService.findProductIds(filters, pageable);
+        if (indexedPage.isPresent()) {
+            List<ProductSummary> summaries = listingService.mapToSummaries(
+                    findProductsInOrder(indexedPage.get().getContent()));
+            return new SliceImpl<>(summaries, pageable, indexedPage.get().hasNext());
+        }
+
+        Specification<Product> spec = searchService.buildProductSpecificationExcludingVariants(filters);
+        Slice<Product> productSlice = searchService.findProductSlice(spec, pageable);
+
+        List<ProductSummary> summaries = listingService.mapToSummaries(productSlice.getContent());
+
+        return new SliceImpl<>(summaries, pageable, productSlice.hasNext());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<ProductSummary> getAllProductsIncludingVariants(ProductSearchFilters filters, Pageable pageable) {
         Specification<Product> spec = searchService.buildProductSpecification(filters);
         Page<Product> productPage = productRepository.findAll(spec, pageable);
-        return productPage.map(mappingService::mapProductToSummary);
+
+        List<ProductSummary> summaries = listingService.mapToSummaries(productPage.getContent());
+
+        return new PageImpl<>(summaries, pageable, productPage.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductFacets getProductFacets(ProductSearchFilters filters) {
+        return facetService.getFacets(filters);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SpecificationFacet> getSpecificationFacets(ProductSearchFilters filters) {
+        return facetService.getSpecificationFacets(filters);
     }
 
     @Override
@@ -313,55 +394,25 @@ public class ProductServiceImpl implements ProductService {
         product.setThumbnailHeight(processedImage.getMetadata().getHeight());
 
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
         log.info("Thumbnail uploaded successfully for product: {}", productId);
         return uploadResult.getObjectKey();
     }
 
     @Override
-    public List<String> uploadProductImages(String productId, List<MultipartFile> files) {
-        log.info("Uploading {} images for product: {}", files.size(), productId);
+    public ImageUploadJobResponse uploadProductImages(String productId, List<MultipartFile> files) {
+        log.info("Queueing {} images for product: {}", files.size(), productId);
 
         Product product = productRepository.findById(UUID.fromString(productId))
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
 
-        if (files.size() > 5) {
-            throw new BusinessException("Maximum 5 catalog images allowed per product");
-        }
-
-        List<ProcessedImageResult> processedImages = new ArrayList<>();
-        for (MultipartFile file : files) {
-            ImageProcessingService.ValidationResult validation = imageProcessingService.validateImage(file, "product_image");
-            if (!validation.isValid()) {
-                throw new BusinessException("Invalid image: " + validation.getErrorMessage());
-            }
-            processedImages.add(imageProcessingService.processProductImage(file, false));
-        }
-
-        List<ImageUploadResult> uploadResults = s3Service.uploadProductImages(processedImages, productId);
-
-        List<ProductImage> productImages = new ArrayList<>();
-        for (int i = 0; i < uploadResults.size(); i++) {
-            ImageUploadResult result = uploadResults.get(i);
-            ProcessedImageResult processedImage = processedImages.get(i);
-
-            ProductImage productImage = new ProductImage();
-            productImage.setObjectKey(result.getObjectKey());
-            productImage.setFileSize(result.getFileSize());
-            productImage.setContentType(result.getContentType());
-            productImage.setWidth(processedImage.getMetadata().getWidth());
-            productImage.setHeight(processedImage.getMetadata().getHeight());
-            productImage.setProduct(product);
-            productImages.add(productImage);
-        }
-
-        productImageRepository.saveAll(productImages);
-
-        List<String> objectKeys = uploadResults.stream()
-                .map(ImageUploadResult::getObjectKey)
-                .collect(Collectors.toList());
+        return imageUploadJobService.submit(product.getId(), files);
+    }
 
-        log.info("Successfully uploaded {} images for product: {}", objectKeys.size(), productId);
-        return objectKeys;
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImageUploadJobResponse getImageUploadJob(String productId, String jobId) {
+        return imageUploadJobService.getJob(UUID.fromString(productId), UUID.fromString(jobId));
     }
 
     @Override
@@ -374,6 +425,7 @@ public class ProductServiceImpl implements ProductService {
             s3Service.deleteImage(productImage.getObjectKey());
         }
         productImageRepository.delete(productImage);
+        eventPublisher.publishEvent(new ProductChangedEvent(UUID.fromString(productId)));
         log.info("Product image deleted successfully: {}", imageId);
     }
 
@@ -398,6 +450,7 @@ public class ProductServiceImpl implements ProductService {
             }
 
             productRepository.save(product);
+            eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
             log.info("Product thumbnail deleted and cleared from variants for product: {}", productId);
             return;
         }
@@ -415,6 +468,7 @@ public class ProductServiceImpl implements ProductService {
             imageService.removeImageFromVariants(product, objectKey);
         }
 
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
         log.info("Product catalog image deleted and cleared from variants: {}", objectKey);
     }
 
@@ -430,22 +484,7 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public ProductStatsResponse getProductStats() {
-        long totalProducts = productRepository.count();
-        long activeProducts = productRepository.countByIsActiveTrue();
-        long featuredProducts = productRepository.countByIsFeaturedTrue();
-        long productsWithVariants = productRepository.countByVariantType(VariantType.PARENT);
-
-        BigDecimal averagePrice = productRepository.findAveragePrice();
-        BigDecimal totalInventoryValue = productRepository.findTotalInventoryValue();
-
-        return ProductStatsResponse.builder()
-                .totalProducts(totalProducts)
-                .activeProducts(activeProducts)
-                .featuredProducts(featuredProducts)
-                .productsWithVariants(productsWithVariants)
-                .averagePrice(averagePrice)
-                .totalInventoryValue(totalInventoryValue)
-                .build();
+        return statsService.getStats();
     }
 
     private void attachCompatibilityBrands(Product product, List<String> compatibilityBrandIds) {
@@ -463,43 +502,24 @@ public class ProductServiceImpl implements ProductService {
 
     private String generateUniqueSlug(String productName, String manufacturerName) {
         String baseSlug = slugGenerator.generateSlug(productName);
-        String uniqueSlug = baseSlug;
-        int counter = 1;
-
-        while (productRepository.existsBySlug(uniqueSlug)) {
-            uniqueSlug = baseSlug + "-" + slugGenerator.generateSlug(manufacturerName) + "-" + counter++;
-        }
-
-        return uniqueSlug;
+        return slugAllocator.allocate("product", baseSlug,
+                baseSlug + "-" + slugGenerator.generateSlug(manufacturerName), null, productRepository::findSlugFamily);
     }
 
     @Scheduled(cron = "0 0 2 * * ?")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupOrphanedImageReferences() {
         log.info("Starting cleanup of orphaned image references");
+        imageReconciliationService.reconcile();
+        log.info("Completed cleanup of orphaned image references");
+    }
 
-        List<Product> productsWithThumbnails = productRepository.findProductsWithThumbnails();
-        for (Product product : productsWithThumbnails) {
-            if (!s3Service.imageExists(product.getThumbnailObjectKey())) {
-                log.info("Cleaning orphaned thumbnail for product: {}", product.getId());
-                product.setThumbnailObjectKey(null);
-                product.setThumbnailFileSize(null);
-                product.setThumbnailContentType(null);
-                product.setThumbnailWidth(null);
-                product.setThumbnailHeight(null);
-            }
-        }
-        productRepository.saveAll(productsWithThumbnails);
-
-        List<ProductImage> allImages = productImageRepository.findAll();
-        List<ProductImage> orphanedImages = allImages.stream()
-                .filter(img -> !s3Service.imageExists(img.getObjectKey()))
+    private List<Product> findProductsInOrder(List<UUID> productIds) {
+        Map<UUID, Product> productsById = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return productIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-
-        if (!orphanedImages.isEmpty()) {
-            log.info("Cleaning {} orphaned catalog images", orphanedImages.size());
-            productImageRepository.deleteAll(orphanedImages);
-        }
-
-        log.info("Completed cleanup of orphaned image references");
     }
-}
\ No newline at end of file
+}
@@ -20,7 +20,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -31,9 +33,12 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageDTO.ImageUploadResult;
 import static com.singhtwenty2.commerce_service.data.dto.catalogue.ImageDTO.ProcessedImageResult;
@@ -46,6 +51,7 @@ import static com.singhtwenty2.commerce_service.data.dto.catalogue.PreSignedUrlD
 public class S3ServiceImpl implements S3Service {
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
     private final S3Presigner s3Presigner;
     private final Environment environment;
 
@@ -59,6 +65,7 @@ public class S3ServiceImpl implements S3Service {
     private static final String PRODUCT_FOLDER = "products";
     private static final String THUMBNAIL_SUBFOLDER = "thumbnails";
     private static final String CATALOG_SUBFOLDER = "catalog";
+    private static final int DELETE_BATCH_SIZE = 1000;
 
     private String bucketName;
 
@@ -134,19 +141,7 @@ public class S3ServiceImpl implements S3Service {
     public ImageUploadResult uploadProductImage(ProcessedImageResult processedImage, String productId, boolean isThumbnail) {
         try {
             String objectKey = generateProductImageKey(productId, isThumbnail, processedImage.getFileExtension());
-
-            Map<String, String> metadata = Map.of(
-                    "entity-type", "product",
-                    "entity-id", productId,
-                    "image-type", isThumbnail ? "thumbnail" : "catalog",
-                    "upload-timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                    "original-format", processedImage.getMetadata().getOriginalFormat(),
-                    "original-size", String.valueOf(processedImage.getMetadata().getOriginalSize()),
-                    "processed-width", String.valueOf(processedImage.getMetadata().getWidth()),
-                    "processed-height", String.valueOf(processedImage.getMetadata().getHeight())
-            );
-
-            return uploadImageToS3(objectKey, processedImage, metadata);
+            return uploadImageToS3(objectKey, processedImage, productImageMetadata(processedImage, productId, isThumbnail));
 
         } catch (Exception e) {
             log.error("Failed to upload product image for product {}: {}", productId, e.getMessage(), e);
@@ -154,16 +149,47 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    @Override
+    public CompletableFuture<ImageUploadResult> uploadProductImageAsync(ProcessedImageResult processedImage, String productId, boolean isThumbnail) {
+        String objectKey = generateProductImageKey(productId, isThumbnail, processedImage.getFileExtension());
+        PutObjectRequest putObjectRequest = buildPutObjectRequest(objectKey, processedImage,
+                productImageMetadata(processedImage, productId, isThumbnail));
+
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromBytes(processedImage.getImageData()))
+                .thenApply(response -> {
+                    log.info("Successfully uploaded image to S3: {}", objectKey);
+                    return uploadedResult(objectKey, processedImage);
+                })
+                .exceptionally(e -> {
+                    log.error("Failed to upload product image for product {}: {}", productId, e.getMessage(), e);
+                    return ImageUploadResult.failure("Failed to upload product image: " + e.getMessage());
+                });
+    }
+
     @Override
     public List<ImageUploadResult> uploadProductImages(List<ProcessedImageResult> processedImages, String productId) {
-        List<ImageUploadResult> results = new ArrayList<>();
+        List<CompletableFuture<ImageUploadResult>> uploads = processedImages.stream()
+                .map(processedImage -> uploadProductImageAsync(processedImage, productId, false))
+                .toList();
 
-        for (ProcessedImageResult processedImage : processedImages) {
-            ImageUploadResult result = uploadProductImage(processedImage, productId, false);
-            results.add(result);
-        }
+        return uploads.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
 
-        return results;
+    @Override
+    public String presignReadUrl(String objectKey, Integer expirationMinutes) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(getBucketName())
+                .key(objectKey)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofMinutes(expirationMinutes))
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
     }
 
     @Override
@@ -271,10 +297,34 @@ public class S3ServiceImpl implements S3Service {
     @Override
     public List<String> deleteImages(List<String> objectKeys) {
         List<String> failedDeletes = new ArrayList<>();
+        List<String> distinctKeys = objectKeys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        for (int start = 0; start < distinctKeys.size(); start += DELETE_BATCH_SIZE) {
+            List<String> batch = distinctKeys.subList(start, Math.min(start + DELETE_BATCH_SIZE, distinctKeys.size()));
+            try {
+                DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+                        .bucket(getBucketName())
+                        .delete(Delete.builder()
+                                .objects(batch.stream()
+                                        .map(key -> ObjectIdentifier.builder().key(key).build())
+                                        .toList())
+                                .quiet(true)
+                                .build())
+                        .build();
 
-        for (String objectKey : objectKeys) {
-            if (!deleteImage(objectKey)) {
-                failedDeletes.add(objectKey);
+                DeleteObjectsResponse response = s3Client.deleteObjects(deleteRequest);
+                for (S3Error error : response.errors()) {
+                    log.error("Failed to delete image {}: {} - {}", error.key(), error.code(), error.message());
+                    failedDeletes.add(error.key());
+                }
+                log.info("Deleted {} of {} images in one request", batch.size() - response.errors().size(), batch.size());
+
+            } catch (Exception e) {
+                log.error("Failed to delete batch of {} images: {}", batch.size(), e.getMessage(), e);
+                failedDeletes.addAll(batch);
             }
         }
 
@@ -305,6 +355,22 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    @Override
+    public List<String> listObjectKeys(String prefix) {
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(getBucketName())
+                .prefix(prefix)
+                .maxKeys(1000)
+                .build();
+
+        List<String> objectKeys = new ArrayList<>();
+        s3Client.listObjectsV2Paginator(listRequest).contents()
+                .forEach(object -> objectKeys.add(object.key()));
+
+        Collections.sort(objectKeys);
+        return objectKeys;
+    }
+
     private void configureBucketPolicies() {
         try {
             PutBucketVersioningRequest versioningRequest = PutBucketVersioningRequest.builder()
@@ -382,30 +448,14 @@ public class S3ServiceImpl implements S3Service {
 
     private ImageUploadResult uploadImageToS3(String objectKey, ProcessedImageResult processedImage, Map<String, String> metadata) {
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(getBucketName())
-                    .key(objectKey)
-                    .contentType(processedImage.getContentType())
-                    .contentLength(processedImage.getFileSizeBytes())
-                    .metadata(metadata)
-                    .serverSideEncryption(ServerSideEncryption.AES256)
-                    .build();
+            PutObjectRequest putObjectRequest = buildPutObjectRequest(objectKey, processedImage, metadata);
 
             RequestBody requestBody = RequestBody.fromBytes(processedImage.getImageData());
             s3Client.putObject(putObjectRequest, requestBody);
 
-            String s3Url = String.format("s3://%s/%s", getBucketName(), objectKey);
-            String publicUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", getBucketName(), region, objectKey);
-
             log.info("Successfully uploaded image to S3: {}", objectKey);
 
-            return ImageUploadResult.success(
-                    objectKey,
-                    s3Url,
-                    publicUrl,
-                    processedImage.getFileSizeBytes(),
-                    processedImage.getContentType()
-            );
+            return uploadedResult(objectKey, processedImage);
 
         } catch (Exception e) {
             log.error("Failed to upload image to S3: {}", e.getMessage(), e);
@@ -413,6 +463,43 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    private PutObjectRequest buildPutObjectRequest(String objectKey, ProcessedImageResult processedImage, Map<String, String> metadata) {
+        return PutObjectRequest.builder()
+                .bucket(getBucketName())
+                .key(objectKey)
+                .contentType(processedImage.getContentType())
+                .contentLength(processedImage.getFileSizeBytes())
+                .metadata(metadata)
+                .serverSideEncryption(ServerSideEncryption.AES256)
+                .build();
+    }
+
+    private ImageUploadResult uploadedResult(String objectKey, ProcessedImageResult processedImage) {
+        String s3Url = String.format("s3://%s/%s", getBucketName(), objectKey);
+        String publicUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", getBucketName(), region, objectKey);
+
+        return ImageUploadResult.success(
+                objectKey,
+                s3Url,
+                publicUrl,
+                processedImage.getFileSizeBytes(),
+                processedImage.getContentType()
+        );
+    }
+
+    private Map<String, String> productImageMetadata(ProcessedImageResult processedImage, String productId, boolean isThumbnail) {
+        return Map.of(
+                "entity-type", "product",
+                "entity-id", productId,
+                "image-type", isThumbnail ? "thumbnail" : "catalog",
+                "upload-timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                "original-format", processedImage.getMetadata().getOriginalFormat(),
+                "original-size", String.valueOf(processedImage.getMetadata().getOriginalSize()),
+                "processed-width", String.valueOf(processedImage.getMetadata().getWidth()),
+                "processed-height", String.valueOf(processedImage.getMetadata().getHeight())
+        );
+    }
+
     private String generateManufacturerLogoKey(String brandSlug, String fileExtension) {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
         String uniqueId = UUID.randomUUID().toString().substring(0, 8);
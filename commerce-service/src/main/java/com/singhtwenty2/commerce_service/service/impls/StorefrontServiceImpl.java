@@ -0,0 +1,146 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.impls;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singhtwenty2.commerce_service.config.datasource.DataSourceRouteContext;
+import com.singhtwenty2.commerce_service.data.dto.common.GlobalApiResponse;
+import com.singhtwenty2.commerce_service.service.catalogue.CategoryService;
+import com.singhtwenty2.commerce_service.service.catalogue.ManufacturerService;
+import com.singhtwenty2.commerce_service.service.catalogue.ProductService;
+import com.singhtwenty2.commerce_service.service.catalogue.StorefrontService;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.CatalogueGenerationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.CategoryDTO.CategoryResponse;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ManufacturerDTO.ManufacturerResponse;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.ProductSearchFilters;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.ProductSummary;
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.StorefrontDTO.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StorefrontServiceImpl implements StorefrontService {
+
+    private final CategoryService categoryService;
+    private final ManufacturerService manufacturerService;
+    private final ProductService productService;
+    private final CatalogueGenerationService generationService;
+    private final ObjectMapper objectMapper;
+
+    private static final int FEATURED_PRODUCT_LIMIT = 12;
+    private static final long MAX_SNAPSHOT_AGE_MILLIS = 20 * 60 * 1000L;
+
+    private volatile HomeSnapshot homeSnapshot;
+
+    @Override
+    public HomeSnapshot getHomeSnapshot() {
+        HomeSnapshot snapshot = homeSnapshot;
+        return snapshot != null ? snapshot : buildInitialHomeSnapshot();
+    }
+
+    @Override
+    @Scheduled(fixedDelay = 15000, initialDelay = 15000)
+    public void refreshHomeSnapshot() {
+        HomeSnapshot snapshot = homeSnapshot;
+        Optional<Long> generation = generationService.currentGeneration();
+
+        boolean stale = snapshot == null ||
+                        System.currentTimeMillis() - snapshot.getBuiltAtMillis() > MAX_SNAPSHOT_AGE_MILLIS ||
+                        generation.isPresent() && !generation.get().equals(snapshot.getGeneration());
+        if (!stale) {
+            return;
+        }
+
+        try {
+            rebuildHomeSnapshot();
+        } catch (Exception e) {
+            log.warn("Failed to refresh storefront home snapshot: {}", e.getMessage());
+        }
+    }
+
+    private synchronized HomeSnapshot buildInitialHomeSnapshot() {
+        return homeSnapshot != null ? homeSnapshot : rebuildHomeSnapshot();
+    }
+
+    private synchronized HomeSnapshot rebuildHomeSnapshot() {
+        long startedAt = System.currentTimeMillis();
+        Long generation = generationService.currentGeneration().orElse(null);
+
+        GlobalApiResponse<HomeResponse> response = GlobalApiResponse.<HomeResponse>builder()
+                .success(true)
+                .message("Storefront home retrieved successfully")
+                .data(DataSourceRouteContext.onPrimary(this::buildHomeResponse))
+                .build();
+
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize storefront home payload", e);
+        }
+
+        HomeSnapshot snapshot = new HomeSnapshot(
+                payload,
+                "\"" + DigestUtils.md5DigestAsHex(payload) + "\"",
+                generation,
+                System.currentTimeMillis()
+        );
+        homeSnapshot = snapshot;
+
+        log.info("Rebuilt storefront home snapshot for generation {} ({} bytes) in {} ms",
+                generation, payload.length, System.currentTimeMillis() - startedAt);
+        return snapshot;
+    }
+
+    private HomeResponse buildHomeResponse() {
+        List<CategoryResponse> categories = categoryService.getActiveCategoriesOrderedByDisplayOrder();
+
+        Map<String, List<ManufacturerResponse>> manufacturersByCategory = new HashMap<>();
+        manufacturerService.getActiveManufacturers().stream()
+                .sorted(Comparator.comparing(ManufacturerResponse::getDisplayOrder,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(manufacturer -> manufacturer.getCategories().forEach(category ->
+                        manufacturersByCategory.computeIfAbsent(category.getCategoryId(), key -> new ArrayList<>())
+                                .add(manufacturer)));
+
+        List<HomeCategory> homeCategories = categories.stream()
+                .map(category -> HomeCategory.builder()
+                        .category(category)
+                        .manufacturers(manufacturersByCategory.getOrDefault(category.getCategoryId(), new ArrayList<>()))
+                        .build())
+                .collect(Collectors.toList());
+
+        List<ProductSummary> featuredProducts = productService.browseProducts(
+                ProductSearchFilters.builder().isFeatured(true).build(),
+                PageRequest.of(0, FEATURED_PRODUCT_LIMIT, Sort.by("displayOrder").ascending())
+        ).getContent();
+
+        return HomeResponse.builder()
+                .categories(homeCategories)
+                .featuredProducts(featuredProducts)
+                .generatedAt(LocalDateTime.now().toString())
+                .build();
+    }
+}
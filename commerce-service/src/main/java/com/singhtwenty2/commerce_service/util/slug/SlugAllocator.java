@@ -0,0 +1,127 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.util.slug;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Component
+@RequiredArgsConstructor
+public class SlugAllocator {
+
+    private final EntityManager entityManager;
+
+    @FunctionalInterface
+    public interface SlugFamilyLookup {
+        List<String> findSlugFamily(String slug, String suffixPattern);
+    }
+
+    @FunctionalInterface
+    public interface SlugFamiliesLookup {
+        List<String> findSlugFamilies(Collection<String> slugs, String[] suffixPatterns);
+    }
+
+    public String allocate(String scope, String baseSlug, SlugFamilyLookup lookup) {
+        return allocate(scope, baseSlug, baseSlug, null, lookup);
+    }
+
+    public String allocate(String scope, String baseSlug, String currentSlug, SlugFamilyLookup lookup) {
+        return allocate(scope, baseSlug, baseSlug, currentSlug, lookup);
+    }
+
+    public String allocate(String scope, String baseSlug, String suffixRoot, String currentSlug, SlugFamilyLookup lookup) {
+        entityManager.createNativeQuery("SELECT 1 FROM pg_advisory_xact_lock(hashtext(:lockKey))")
+                .setParameter("lockKey", scope + ":" + baseSlug)
+                .getSingleResult();
+
+        Set<String> taken = new HashSet<>(lookup.findSlugFamily(baseSlug, escapeLike(suffixRoot) + "-%"));
+        if (currentSlug != null) {
+            taken.remove(currentSlug);
+        }
+
+        if (!taken.contains(baseSlug)) {
+            return baseSlug;
+        }
+
+        return suffixRoot + "-" + (highestSuffix(taken, suffixRoot) + 1);
+    }
+
+    public List<String> allocateAll(String scope, List<String> baseSlugs, List<String> suffixRoots,
+                                    SlugFamiliesLookup lookup) {
+        if (baseSlugs.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> lockKeys = new TreeSet<>();
+        baseSlugs.forEach(baseSlug -> lockKeys.add(scope + ":" + baseSlug));
+        entityManager.createNativeQuery("SELECT count(pg_advisory_xact_lock(hashtext(lock_key))) " +
+                                        "FROM unnest(CAST(:lockKeys AS text[])) AS lock_key")
+                .setParameter("lockKeys", lockKeys.toArray(String[]::new))
+                .getSingleResult();
+
+        Set<String> suffixPatterns = new HashSet<>();
+        suffixRoots.forEach(suffixRoot -> suffixPatterns.add(escapeLikeDefault(suffixRoot) + "-%"));
+        Set<String> taken = new HashSet<>(lookup.findSlugFamilies(new HashSet<>(baseSlugs),
+                suffixPatterns.toArray(String[]::new)));
+
+        Map<String, Long> highestSuffixes = new HashMap<>();
+        List<String> allocated = new ArrayList<>(baseSlugs.size());
+        for (int i = 0; i < baseSlugs.size(); i++) {
+            String baseSlug = baseSlugs.get(i);
+            String slug = baseSlug;
+            if (taken.contains(baseSlug)) {
+                String suffixRoot = suffixRoots.get(i);
+                long suffix = highestSuffixes.computeIfAbsent(suffixRoot, root -> highestSuffix(taken, root));
+                do {
+                    slug = suffixRoot + "-" + ++suffix;
+                } while (taken.contains(slug));
+                highestSuffixes.put(suffixRoot, suffix);
+            }
+            taken.add(slug);
+            allocated.add(slug);
+        }
+        return allocated;
+    }
+
+    private long highestSuffix(Set<String> taken, String suffixRoot) {
+        String suffixPrefix = suffixRoot + "-";
+        return taken.stream()
+                .filter(slug -> slug.startsWith(suffixPrefix))
+                .map(slug -> slug.substring(suffixPrefix.length()))
+                .filter(suffix -> !suffix.isEmpty() && suffix.length() < 10 && suffix.chars().allMatch(Character::isDigit))
+                .mapToLong(Long::parseLong)
+                .max()
+                .orElse(0);
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
+    private String escapeLikeDefault(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
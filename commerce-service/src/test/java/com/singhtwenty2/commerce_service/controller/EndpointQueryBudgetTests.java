@@ -0,0 +1,639 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.controller;
+
+import com.singhtwenty2.commerce_service.data.entity.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singhtwenty2.commerce_service.data.enums.CartType;
+import com.singhtwenty2.commerce_service.data.enums.OrderStatus;
+import com.singhtwenty2.commerce_service.data.enums.OrderType;
+import com.singhtwenty2.commerce_service.data.enums.UserRole;
+import com.singhtwenty2.commerce_service.data.enums.VariantType;
+import com.singhtwenty2.commerce_service.security.PrincipalUser;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.ProductCategoryService;
+import com.singhtwenty2.commerce_service.service.catalogue.helper.ProductFilterIndexService;
+import com.singhtwenty2.commerce_service.support.querycount.QueryBudget;
+import com.singhtwenty2.commerce_service.support.querycount.QueryBudgetExtension;
+import com.singhtwenty2.commerce_service.support.querycount.QueryBudgetTestConfiguration;
+import com.singhtwenty2.commerce_service.support.querycount.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"aws.accessKey=test",
+		"aws.secretKey=test",
+		"aws.region=ap-south-1",
+		"aws.s3.temp-bucket=query-budget-temp",
+		"jwt.secret=cXVlcnktYnVkZ2V0LXRlc3RzLW9ubHktc2lnbmluZy1rZXktMzJi",
+		"grpc.telemetry-service.host=localhost",
+		"grpc.telemetry-service.port=65535",
+		"backup.enabled=false"
+})
+@AutoConfigureMockMvc
+@Testcontainers
+@Import(QueryBudgetTestConfiguration.class)
+@ExtendWith(QueryBudgetExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryBudgetTests {
+
+	private static final Pattern USERS_TABLE = Pattern.compile("\\b(from|join)\\s+users\\b", Pattern.CASE_INSENSITIVE);
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	@Container
+	@ServiceConnection(name = "redis")
+	static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private ProductCategoryService productCategoryService;
+
+	@Autowired
+	private ProductFilterIndexService productFilterIndexService;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final List<Category> categories = new ArrayList<>();
+	private final List<Manufacturer> manufacturers = new ArrayList<>();
+	private final List<CompatibilityBrand> compatibilityBrands = new ArrayList<>();
+	private final List<Product> products = new ArrayList<>();
+	private Product parentProduct;
+	private User user;
+	private Order order;
+	private final Map<String, User> writers = new HashMap<>();
+	private final Map<String, Cart> writerCarts = new HashMap<>();
+	private final Map<String, Order> writerOrders = new HashMap<>();
+	private Product updateTarget;
+
+	@BeforeAll
+	void seedCatalogue() {
+		transactionTemplate.executeWithoutResult(status -> {
+			for (String name : List.of("Power Tools", "Hand Tools", "Accessories")) {
+				Category category = new Category();
+				category.setName(name);
+				category.setSlug(slugOf(name));
+				category.setDisplayOrder(categories.size());
+				entityManager.persist(category);
+				categories.add(category);
+			}
+
+			for (String name : List.of("Bosch", "Makita", "Stanley")) {
+				Manufacturer manufacturer = new Manufacturer();
+				manufacturer.setName(name);
+				manufacturer.setSlug(slugOf(name));
+				manufacturer.setDisplayOrder(manufacturers.size());
+				manufacturer.addCategory(categories.get(manufacturers.size()));
+				manufacturer.addCategory(categories.get(2));
+				entityManager.persist(manufacturer);
+				manufacturers.add(manufacturer);
+			}
+
+			for (String name : List.of("DeWalt", "Hitachi", "Black and Decker")) {
+				CompatibilityBrand compatibilityBrand = new CompatibilityBrand();
+				compatibilityBrand.setName(name);
+				compatibilityBrand.setSlug(slugOf(name));
+				entityManager.persist(compatibilityBrand);
+				compatibilityBrands.add(compatibilityBrand);
+			}
+
+			for (Manufacturer manufacturer : manufacturers) {
+				for (int index = 0; index < 3; index++) {
+					Product product = productOf(manufacturer, manufacturer.getName() + " Drill " + index);
+					product.addCompatibilityBrand(compatibilityBrands.get(index));
+					entityManager.persist(product);
+					for (int position = 1; position <= 2; position++) {
+						ProductImage image = new ProductImage();
+						image.setObjectKey("products/" + product.getSlug() + "/image-" + position + ".webp");
+						image.setContentType("image/webp");
+						image.setFileSize(48_000L);
+						image.setWidth(800);
+						image.setHeight(800);
+						product.addProductImage(image);
+						entityManager.persist(image);
+					}
+					products.add(product);
+				}
+			}
+
+			parentProduct = products.get(0);
+			for (int index = 1; index <= 2; index++) {
+				Product variant = productOf(parentProduct.getManufacturer(), parentProduct.getName() + " Variant " + index);
+				parentProduct.addVariant(variant);
+				entityManager.persist(variant);
+			}
+
+			user = userOf("Budget Tester", "9000000001");
+			for (int index = 0; index < 2; index++) {
+				order = orderOf(user, products.subList(index * 2, index * 2 + 2));
+			}
+			cartOf(user, CartType.CART, products.subList(4, 6));
+
+			List<String> writerNames = List.of("add-item", "update-item", "remove-item", "move-item", "clear-cart",
+					"sync-prices", "create-order", "create-pickup-order", "cancel-order", "update-order-status", "buy-again");
+			for (int index = 0; index < writerNames.size(); index++) {
+				String name = writerNames.get(index);
+				User writer = userOf("Budget Writer " + name, String.valueOf(9100000000L + index));
+				writers.put(name, writer);
+				writerCarts.put(name, cartOf(writer, CartType.CART, products.subList(6, 8)));
+				writerOrders.put(name, orderOf(writer, products.subList(6, 8)));
+			}
+
+			updateTarget = productOf(manufacturers.get(2), "Stanley Update Target");
+			entityManager.persist(updateTarget);
+		});
+
+		productCategoryService.reconcile();
+	}
+
+	@BeforeEach
+	void resetCaches() {
+		stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		});
+		productFilterIndexService.refreshIndex();
+	}
+
+	@Test
+	@QueryBudget(10)
+	void getProductById() throws Exception {
+		mockMvc.perform(get("/v1/products/{productId}", parentProduct.getId())).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(5)
+	void getProductBySlug() throws Exception {
+		mockMvc.perform(get("/v1/products/slug/{slug}", products.get(4).getSlug())).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(5)
+	void getProductBySku() throws Exception {
+		mockMvc.perform(get("/v1/products/sku/{sku}", products.get(5).getSku())).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(4)
+	void searchProducts() throws Exception {
+		mockMvc.perform(get("/v1/products/search").param("categoryId", categories.get(2).getId().toString()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(4)
+	void browseProducts() throws Exception {
+		mockMvc.perform(get("/v1/products/browse").param("manufacturerId", manufacturers.get(1).getId().toString()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getSpecificationFacets() throws Exception {
+		mockMvc.perform(get("/v1/products/spec-facets").param("categoryId", categories.get(0).getId().toString()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(6)
+	void getProductVariants() throws Exception {
+		mockMvc.perform(get("/v1/products/{productId}/variants", parentProduct.getId())).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(4)
+	void getAllProductsForAdmin() throws Exception {
+		mockMvc.perform(get("/v1/products/admin/all").with(as(UserRole.ADMIN))).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getProductStats() throws Exception {
+		mockMvc.perform(get("/v1/products/stats").with(as(UserRole.ADMIN))).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getAllCategories() throws Exception {
+		mockMvc.perform(get("/v1/categories")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getCategoryById() throws Exception {
+		mockMvc.perform(get("/v1/categories/{categoryId}", categories.get(0).getId())).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getCategoryBySlug() throws Exception {
+		mockMvc.perform(get("/v1/categories/slug/{slug}", categories.get(1).getSlug())).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getActiveCategories() throws Exception {
+		mockMvc.perform(get("/v1/categories/active")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void searchCategories() throws Exception {
+		mockMvc.perform(get("/v1/categories/search").param("searchTerm", "tools")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getActiveCategoriesOrdered() throws Exception {
+		mockMvc.perform(get("/v1/categories/active/ordered")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(3)
+	void getAllManufacturers() throws Exception {
+		mockMvc.perform(get("/v1/manufacturers")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(3)
+	void getManufacturerById() throws Exception {
+		mockMvc.perform(get("/v1/manufacturers/{manufacturerId}", manufacturers.get(0).getId())).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(3)
+	void getManufacturerBySlug() throws Exception {
+		mockMvc.perform(get("/v1/manufacturers/slug/{slug}", manufacturers.get(1).getSlug())).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(3)
+	void getActiveManufacturers() throws Exception {
+		mockMvc.perform(get("/v1/manufacturers/active")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(4)
+	void getManufacturersByCategories() throws Exception {
+		mockMvc.perform(get("/v1/manufacturers/categories").param("categoryIds", categories.get(2).getId().toString()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(3)
+	void searchManufacturers() throws Exception {
+		mockMvc.perform(get("/v1/manufacturers/search").param("name", "o")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(4)
+	void getAllCompatibilityBrands() throws Exception {
+		mockMvc.perform(get("/v1/compatibility-brands")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getCompatibilityBrandById() throws Exception {
+		mockMvc.perform(get("/v1/compatibility-brands/{compatibilityBrandId}", compatibilityBrands.get(0).getId()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(6)
+	void globalSearch() throws Exception {
+		mockMvc.perform(get("/v1/search").param("q", "drill")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(6)
+	void getStorefrontHome() throws Exception {
+		mockMvc.perform(get("/v1/public/home")).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(7)
+	void getUserOrders() throws Exception {
+		mockMvc.perform(get("/v1/orders/my-orders").with(as(UserRole.USER))).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(5)
+	void getOrderById() throws Exception {
+		mockMvc.perform(get("/v1/orders/{orderId}", order.getId()).with(as(UserRole.USER))).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(14)
+	void getAllOrdersForAdmin() throws Exception {
+		mockMvc.perform(get("/v1/orders/admin/all").with(as(UserRole.ADMIN))).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(7)
+	void getOrderStatistics() throws Exception {
+		mockMvc.perform(get("/v1/orders/statistics").with(as(UserRole.ADMIN))).andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(2)
+	void getCart() throws Exception {
+		mockMvc.perform(get("/v1/cart/{cartType}", CartType.CART).with(as(UserRole.USER))).andExpect(status().isOk());
+		assertThat(StatementCounter.statements()).noneMatch(sql -> USERS_TABLE.matcher(sql).find());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void getCartSummary() throws Exception {
+		mockMvc.perform(get("/v1/cart/summary").with(as(UserRole.USER))).andExpect(status().isOk());
+		assertThat(StatementCounter.statements()).noneMatch(sql -> USERS_TABLE.matcher(sql).find());
+	}
+
+	@Test
+	@QueryBudget(5)
+	void createCategory() throws Exception {
+		mockMvc.perform(post("/v1/categories").with(as(UserRole.ADMIN))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("name", "Budget Category", "description", "Created by the query budget suite"))))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	@QueryBudget(12)
+	void createProduct() throws Exception {
+		mockMvc.perform(post("/v1/products").with(as(UserRole.ADMIN))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of(
+								"name", "Budget Impact Driver",
+								"price", "2999.00",
+								"manufacturer_id", manufacturers.get(1).getId().toString(),
+								"compatibility_brand_ids", List.of(compatibilityBrands.get(0).getId().toString()),
+								"specifications", Map.of("voltage", "18V")))))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	@QueryBudget(6)
+	void updateProduct() throws Exception {
+		mockMvc.perform(put("/v1/products/{productId}", updateTarget.getId()).with(as(UserRole.ADMIN))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("price", "1799.00", "short_description", "Repriced by the query budget suite"))))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(8)
+	void addItemToCart() throws Exception {
+		mockMvc.perform(post("/v1/cart/items").with(as(writers.get("add-item"), UserRole.USER))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of(
+								"product_id", products.get(8).getId().toString(),
+								"quantity", 1,
+								"cart_type", CartType.CART))))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	@QueryBudget(7)
+	void updateCartItem() throws Exception {
+		mockMvc.perform(put("/v1/cart/items/{cartItemId}", cartItemOf("update-item")).with(as(writers.get("update-item"), UserRole.USER))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("quantity", 3))))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(6)
+	void removeCartItem() throws Exception {
+		mockMvc.perform(delete("/v1/cart/items/{cartItemId}", cartItemOf("remove-item")).with(as(writers.get("remove-item"), UserRole.USER))
+						.param("cartType", CartType.CART.name()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(10)
+	void moveCartItem() throws Exception {
+		mockMvc.perform(put("/v1/cart/items/{cartItemId}/move", cartItemOf("move-item")).with(as(writers.get("move-item"), UserRole.USER))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("target_cart_type", CartType.WISHLIST))))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(3)
+	void clearCart() throws Exception {
+		mockMvc.perform(delete("/v1/cart/{cartType}/clear", CartType.CART).with(as(writers.get("clear-cart"), UserRole.USER)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(1)
+	void syncCartPrices() throws Exception {
+		mockMvc.perform(post("/v1/cart/sync-prices/{cartType}", CartType.CART).with(as(writers.get("sync-prices"), UserRole.USER)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(10)
+	void createOrder() throws Exception {
+		User writer = writers.get("create-order");
+		mockMvc.perform(post("/v1/orders").with(as(writer, UserRole.USER))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of(
+								"cart_id", writerCarts.get("create-order").getId().toString(),
+								"customer_name", writer.getName(),
+								"phone_number", "9876543210",
+								"street_address", "1 Test Street",
+								"city", "Bengaluru",
+								"state", "Karnataka",
+								"pincode", "560001"))))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	@QueryBudget(10)
+	void createPickupOrder() throws Exception {
+		User writer = writers.get("create-pickup-order");
+		mockMvc.perform(post("/v1/orders/pickup").with(as(writer, UserRole.USER))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of(
+								"cart_id", writerCarts.get("create-pickup-order").getId().toString(),
+								"customer_name", writer.getName(),
+								"phone_number", "9876543210"))))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	@QueryBudget(7)
+	void cancelOrder() throws Exception {
+		mockMvc.perform(put("/v1/orders/{orderId}/cancel", writerOrders.get("cancel-order").getId())
+						.with(as(writers.get("cancel-order"), UserRole.USER)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(7)
+	void updateOrderStatus() throws Exception {
+		mockMvc.perform(put("/v1/orders/{orderId}/status", writerOrders.get("update-order-status").getId())
+						.with(as(UserRole.ADMIN))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("status", OrderStatus.CONFIRMED))))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@QueryBudget(9)
+	void buyAgain() throws Exception {
+		mockMvc.perform(post("/v1/orders/buy-again").with(as(writers.get("buy-again"), UserRole.USER))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("order_id", writerOrders.get("buy-again").getId().toString()))))
+				.andExpect(status().isOk());
+	}
+
+	private UUID cartItemOf(String writer) {
+		return writerCarts.get(writer).getCartItems().get(0).getId();
+	}
+
+	private RequestPostProcessor as(UserRole role) {
+		return as(user, role);
+	}
+
+	private RequestPostProcessor as(User subject, UserRole role) {
+		PrincipalUser principal = PrincipalUser.builder()
+				.userId(subject.getId())
+				.role(role)
+				.build();
+		return authentication(new UsernamePasswordAuthenticationToken(
+				principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))));
+	}
+
+	private User userOf(String name, String mobileNumber) {
+		User seededUser = new User();
+		seededUser.setName(name);
+		seededUser.setMobileNumber(mobileNumber);
+		seededUser.setPassword("not-a-real-hash");
+		seededUser.setRole(UserRole.USER);
+		entityManager.persist(seededUser);
+		return seededUser;
+	}
+
+	private Order orderOf(User customer, List<Product> orderedProducts) {
+		Order seededOrder = new Order();
+		seededOrder.setUser(customer);
+		seededOrder.setCustomerName(customer.getName());
+		seededOrder.setPhoneNumber(customer.getMobileNumber());
+		seededOrder.setOrderType(OrderType.DELIVERY);
+		seededOrder.setStreetAddress("1 Test Street");
+		seededOrder.setCity("Bengaluru");
+		seededOrder.setState("Karnataka");
+		seededOrder.setPincode("560001");
+		for (Product product : orderedProducts) {
+			OrderItem orderItem = new OrderItem();
+			orderItem.setProduct(product);
+			orderItem.setProductName(product.getName());
+			orderItem.setProductSku(product.getSku());
+			orderItem.setManufacturerName(product.getManufacturerName());
+			orderItem.setQuantity(1);
+			orderItem.setUnitPrice(product.getPrice());
+			seededOrder.addOrderItem(orderItem);
+		}
+		seededOrder.setTotalItems(orderedProducts.size());
+		seededOrder.setTotalAmount(seededOrder.getOrderItems().stream()
+				.map(OrderItem::getUnitPrice)
+				.reduce(BigDecimal.ZERO, BigDecimal::add));
+		entityManager.persist(seededOrder);
+		return seededOrder;
+	}
+
+	private Cart cartOf(User owner, CartType cartType, List<Product> cartProducts) {
+		Cart cart = new Cart();
+		cart.setUser(owner);
+		cart.setCartType(cartType);
+		for (Product product : cartProducts) {
+			CartItem cartItem = new CartItem();
+			cartItem.setProduct(product);
+			cartItem.setPriceAtTime(product.getPrice());
+			cart.addCartItem(cartItem);
+		}
+		entityManager.persist(cart);
+		return cart;
+	}
+
+	private String json(Object body) throws Exception {
+		return objectMapper.writeValueAsString(body);
+	}
+
+	private Product productOf(Manufacturer manufacturer, String name) {
+		Product product = new Product();
+		product.setName(name);
+		product.setSlug(slugOf(name));
+		product.setSku(slugOf(name).toUpperCase());
+		product.setManufacturer(manufacturer);
+		product.setPrice(new BigDecimal("1499.00").add(BigDecimal.valueOf(products.size() * 250L)));
+		product.setSpecifications(Map.of("voltage", products.size() % 2 == 0 ? "18V" : "12V", "chuck_size", "13mm"));
+		product.setVariantType(VariantType.STANDALONE);
+		return product;
+	}
+
+	private static String slugOf(String name) {
+		return name.toLowerCase().replaceAll("[^a-z0-9]+", "-") + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+}
@@ -0,0 +1,310 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.catalogue.helper;
+
+import com.singhtwenty2.commerce_service.data.entity.Category;
+import com.singhtwenty2.commerce_service.data.entity.CompatibilityBrand;
+import com.singhtwenty2.commerce_service.data.entity.Manufacturer;
+import com.singhtwenty2.commerce_service.data.entity.Product;
+import com.singhtwenty2.commerce_service.data.enums.VariantType;
+import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.singhtwenty2.commerce_service.data.dto.catalogue.ProductDTO.ProductSearchFilters;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"aws.accessKey=test",
+		"aws.secretKey=test",
+		"aws.region=ap-south-1",
+		"aws.s3.temp-bucket=filter-index-temp",
+		"jwt.secret=cXVlcnktYnVkZ2V0LXRlc3RzLW9ubHktc2lnbmluZy1rZXktMzJi",
+		"grpc.telemetry-service.host=localhost",
+		"grpc.telemetry-service.port=65535",
+		"backup.enabled=false"
+})
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductFilterIndexServiceTests {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	@Container
+	@ServiceConnection(name = "redis")
+	static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	private static final LocalDateTime SEEDED_AT = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+	@Autowired
+	private ProductFilterIndexService filterIndexService;
+
+	@Autowired
+	private ProductSearchService searchService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ProductCategoryService productCategoryService;
+
+	@Autowired
+	private CatalogueGenerationService generationService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final List<Category> categories = new ArrayList<>();
+	private final List<Manufacturer> manufacturers = new ArrayList<>();
+	private final List<CompatibilityBrand> compatibilityBrands = new ArrayList<>();
+
+	@BeforeAll
+	void seedCatalogue() {
+		transactionTemplate.executeWithoutResult(status -> {
+			for (String name : List.of("Power Tools", "Garden Tools")) {
+				Category category = new Category();
+				category.setName(name);
+				category.setSlug(slugOf(name));
+				entityManager.persist(category);
+				categories.add(category);
+			}
+
+			for (String name : List.of("Bosch", "Makita")) {
+				Manufacturer manufacturer = new Manufacturer();
+				manufacturer.setName(name);
+				manufacturer.setSlug(slugOf(name));
+				manufacturer.addCategory(categories.get(0));
+				if (!manufacturers.isEmpty()) {
+					manufacturer.addCategory(categories.get(1));
+				}
+				entityManager.persist(manufacturer);
+				manufacturers.add(manufacturer);
+			}
+
+			for (String name : List.of("DeWalt", "Hitachi")) {
+				CompatibilityBrand compatibilityBrand = new CompatibilityBrand();
+				compatibilityBrand.setName(name);
+				compatibilityBrand.setSlug(slugOf(name));
+				entityManager.persist(compatibilityBrand);
+				compatibilityBrands.add(compatibilityBrand);
+			}
+
+			List<BigDecimal> prices = List.of(new BigDecimal("999.00"), new BigDecimal("1500.00"),
+					new BigDecimal("1500.00"), new BigDecimal("2000.00"), new BigDecimal("2499.50"));
+			List<Product> products = new ArrayList<>();
+			for (int index = 0; index < 15; index++) {
+				Product product = new Product();
+				product.setName("Drill " + index);
+				product.setSlug(slugOf(product.getName()));
+				product.setSku(product.getSlug().toUpperCase());
+				product.setManufacturer(manufacturers.get(index % 2));
+				product.setPrice(prices.get(index % prices.size()));
+				product.setIsFeatured(index % 3 == 0);
+				product.setIsActive(index != 7);
+				product.setSpecifications(Map.of("voltage", "18V"));
+				product.setVariantType(VariantType.STANDALONE);
+				if (index % 4 != 3) {
+					product.addCompatibilityBrand(compatibilityBrands.get(index % 4 == 0 ? 1 : 0));
+				}
+				entityManager.persist(product);
+				products.add(product);
+			}
+
+			Product variant = new Product();
+			variant.setName("Drill 0 Variant");
+			variant.setSlug(slugOf(variant.getName()));
+			variant.setSku(variant.getSlug().toUpperCase());
+			variant.setManufacturer(manufacturers.get(0));
+			variant.setPrice(new BigDecimal("1500.00"));
+			variant.setVariantType(VariantType.STANDALONE);
+			products.get(0).addVariant(variant);
+			entityManager.persist(variant);
+			products.add(variant);
+
+			entityManager.flush();
+			for (int index = 0; index < products.size(); index++) {
+				entityManager.createNativeQuery("UPDATE products SET created_at = :createdAt WHERE id = :id")
+						.setParameter("createdAt", SEEDED_AT.plusMinutes(index / 3))
+						.setParameter("id", products.get(index).getId())
+						.executeUpdate();
+			}
+		});
+
+		productCategoryService.reconcile();
+		generationService.bump();
+		filterIndexService.refreshIndex();
+	}
+
+	@Test
+	void defaultOrderMatchesSpecification() {
+		for (int page = 0; page < 3; page++) {
+			assertMatchesSpecification(new ProductSearchFilters(), PageRequest.of(page, 5));
+		}
+	}
+
+	@Test
+	void descendingCreatedAtMatchesSpecificationAcrossTies() {
+		for (int page = 0; page < 4; page++) {
+			assertMatchesSpecification(new ProductSearchFilters(),
+					PageRequest.of(page, 4, Sort.by(Sort.Direction.DESC, "createdAt")));
+		}
+	}
+
+	@Test
+	void ascendingCreatedAtMatchesSpecificationAcrossTies() {
+		for (int page = 0; page < 4; page++) {
+			assertMatchesSpecification(new ProductSearchFilters(),
+					PageRequest.of(page, 4, Sort.by(Sort.Direction.ASC, "createdAt")));
+		}
+	}
+
+	@Test
+	void priceBoundsAreInclusive() {
+		ProductSearchFilters filters = new ProductSearchFilters();
+		filters.setMinPrice(new BigDecimal("1500.00"));
+		filters.setMaxPrice(new BigDecimal("2000"));
+
+		Page<UUID> indexed = assertMatchesSpecification(filters, PageRequest.of(0, 20));
+		assertThat(indexed.getTotalElements()).isEqualTo(8);
+		assertMatchesSpecification(filters, PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "createdAt")));
+	}
+
+	@Test
+	void openEndedPriceBoundsMatchSpecification() {
+		ProductSearchFilters minOnly = new ProductSearchFilters();
+		minOnly.setMinPrice(new BigDecimal("2000.01"));
+		assertMatchesSpecification(minOnly, PageRequest.of(0, 20));
+
+		ProductSearchFilters maxOnly = new ProductSearchFilters();
+		maxOnly.setMaxPrice(new BigDecimal("999"));
+		assertMatchesSpecification(maxOnly, PageRequest.of(0, 20));
+	}
+
+	@Test
+	void featuredFilterMatchesSpecificationInBothDirections() {
+		ProductSearchFilters featured = new ProductSearchFilters();
+		featured.setIsFeatured(true);
+		assertMatchesSpecification(featured, PageRequest.of(0, 20));
+
+		ProductSearchFilters notFeatured = new ProductSearchFilters();
+		notFeatured.setIsFeatured(false);
+		assertMatchesSpecification(notFeatured, PageRequest.of(0, 20));
+		assertMatchesSpecification(notFeatured, PageRequest.of(1, 4, Sort.by(Sort.Direction.ASC, "createdAt")));
+	}
+
+	@Test
+	void categoryManufacturerAndBrandFiltersMatchSpecification() {
+		ProductSearchFilters byCategory = new ProductSearchFilters();
+		byCategory.setCategoryId(categories.get(1).getId().toString());
+		assertMatchesSpecification(byCategory, PageRequest.of(0, 20));
+
+		ProductSearchFilters combined = new ProductSearchFilters();
+		combined.setCategoryId(categories.get(0).getId().toString());
+		combined.setManufacturerId(manufacturers.get(0).getId().toString());
+		combined.setCompatibilityBrandIds(List.of(compatibilityBrands.get(0).getId().toString(),
+				compatibilityBrands.get(1).getId().toString()));
+		combined.setIsFeatured(false);
+		assertMatchesSpecification(combined, PageRequest.of(0, 20));
+	}
+
+	@Test
+	void unknownIdsMatchNothing() {
+		String unknownId = UUID.randomUUID().toString();
+
+		ProductSearchFilters unknownCategory = new ProductSearchFilters();
+		unknownCategory.setCategoryId(unknownId);
+		assertThat(assertMatchesSpecification(unknownCategory, PageRequest.of(0, 20)).getTotalElements()).isZero();
+
+		ProductSearchFilters unknownManufacturer = new ProductSearchFilters();
+		unknownManufacturer.setManufacturerId(unknownId);
+		assertThat(assertMatchesSpecification(unknownManufacturer, PageRequest.of(0, 20)).getTotalElements()).isZero();
+
+		ProductSearchFilters unknownBrand = new ProductSearchFilters();
+		unknownBrand.setCompatibilityBrandIds(List.of(unknownId));
+		assertThat(assertMatchesSpecification(unknownBrand, PageRequest.of(0, 20)).getTotalElements()).isZero();
+
+		ProductSearchFilters knownAndUnknownBrand = new ProductSearchFilters();
+		knownAndUnknownBrand.setCompatibilityBrandIds(List.of(unknownId, compatibilityBrands.get(1).getId().toString()));
+		assertMatchesSpecification(knownAndUnknownBrand, PageRequest.of(0, 20));
+	}
+
+	@Test
+	void offsetPastTotalReturnsEmptyPageWithTotal() {
+		Page<UUID> indexed = assertMatchesSpecification(new ProductSearchFilters(), PageRequest.of(10, 5));
+		assertThat(indexed.getContent()).isEmpty();
+		assertThat(indexed.getTotalElements()).isEqualTo(14);
+
+		assertMatchesSpecification(new ProductSearchFilters(),
+				PageRequest.of(10, 5, Sort.by(Sort.Direction.ASC, "createdAt")));
+	}
+
+	@Test
+	void unsupportedQueriesFallBackToSpecification() {
+		ProductSearchFilters keyword = new ProductSearchFilters();
+		keyword.setKeyword("drill");
+		assertThat(filterIndexService.findProductIds(keyword, PageRequest.of(0, 20))).isEmpty();
+
+		assertThat(filterIndexService.findProductIds(new ProductSearchFilters(),
+				PageRequest.of(0, 20, Sort.by("price")))).isEmpty();
+	}
+
+	/**
+	 * The index orders by createdAt descending with id ascending as the tie-break,
+	 * and walks that order backwards for ascending requests.
+	 */
+	private Page<UUID> assertMatchesSpecification(ProductSearchFilters filters, Pageable pageable) {
+		Page<UUID> indexed = filterIndexService.findProductIds(filters, pageable).orElseThrow();
+
+		boolean ascending = pageable.getSort().isSorted() && pageable.getSort().getOrderFor("createdAt").isAscending();
+		Sort sort = ascending ?
+				Sort.by(Sort.Order.asc("createdAt"), Sort.Order.desc("id")) :
+				Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+		Page<UUID> specified = productRepository.findAll(
+						searchService.buildProductSpecificationExcludingVariants(filters),
+						PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort))
+				.map(Product::getId);
+
+		assertThat(indexed.getContent()).containsExactlyElementsOf(specified.getContent());
+		assertThat(indexed.getTotalElements()).isEqualTo(specified.getTotalElements());
+		return indexed;
+	}
+
+	private static String slugOf(String name) {
+		return name.toLowerCase().replaceAll("[^a-z0-9]+", "-") + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.service.impls;
+
+import com.singhtwenty2.commerce_service.data.entity.Cart;
+import com.singhtwenty2.commerce_service.data.entity.User;
+import com.singhtwenty2.commerce_service.data.enums.CartType;
+import com.singhtwenty2.commerce_service.data.repository.CartItemRepository;
+import com.singhtwenty2.commerce_service.data.repository.CartRepository;
+import com.singhtwenty2.commerce_service.data.repository.ProductRepository;
+import com.singhtwenty2.commerce_service.data.repository.UserRepository;
+import com.singhtwenty2.commerce_service.service.file_handeling.S3Service;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.singhtwenty2.commerce_service.data.dto.cart.CartDTO.CartResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartServiceImplTests {
+
+	@Mock
+	private CartRepository cartRepository;
+
+	@Mock
+	private CartItemRepository cartItemRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private S3Service s3Service;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private CartServiceImpl cartService;
+
+	@Test
+	void getCartIssuesSingleCartQueryAndNoUserLookup() {
+		UUID userId = UUID.randomUUID();
+		when(cartRepository.findByUserIdAndCartTypeWithItems(userId, CartType.CART))
+				.thenReturn(Optional.of(cartOf(userId)));
+
+		CartResponse response = cartService.getCart(userId.toString(), CartType.CART);
+
+		assertThat(response.getUserId()).isEqualTo(userId.toString());
+		verify(cartRepository, times(1)).findByUserIdAndCartTypeWithItems(userId, CartType.CART);
+		verifyNoMoreInteractions(cartRepository);
+		verifyNoInteractions(userRepository, cartItemRepository);
+	}
+
+	@Test
+	void getAllCartSummariesIssuesSingleAggregateQueryAndNoUserLookup() {
+		UUID userId = UUID.randomUUID();
+		when(cartRepository.summarizeActiveCartsByUserId(userId)).thenReturn(List.of());
+
+		assertThat(cartService.getAllCartSummaries(userId.toString())).isEmpty();
+		verify(cartRepository, times(1)).summarizeActiveCartsByUserId(userId);
+		verifyNoMoreInteractions(cartRepository);
+		verifyNoInteractions(userRepository, cartItemRepository);
+	}
+
+	@Test
+	void clearCartOnMissingCartTouchesOnlyCartTable() {
+		UUID userId = UUID.randomUUID();
+		when(cartRepository.findByUserIdAndCartTypeAndIsActiveTrue(userId, CartType.WISHLIST))
+				.thenReturn(Optional.empty());
+
+		CartResponse response = cartService.clearCart(userId.toString(), CartType.WISHLIST);
+
+		assertThat(response.getCartId()).isNull();
+		verify(cartRepository, times(1)).findByUserIdAndCartTypeAndIsActiveTrue(userId, CartType.WISHLIST);
+		verifyNoMoreInteractions(cartRepository);
+		verifyNoInteractions(userRepository, cartItemRepository);
+	}
+
+	private Cart cartOf(UUID userId) {
+		User user = new User();
+		user.setId(userId);
+
+		Cart cart = new Cart();
+		cart.setId(UUID.randomUUID());
+		cart.setUser(user);
+		cart.setCartType(CartType.CART);
+		return cart;
+	}
+}
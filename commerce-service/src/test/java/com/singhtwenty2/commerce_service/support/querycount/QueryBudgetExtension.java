@@ -0,0 +1,37 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.support.querycount;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+	@Override
+	public void beforeTestExecution(ExtensionContext context) {
+		StatementCounter.reset();
+	}
+
+	@Override
+	public void afterTestExecution(ExtensionContext context) {
+		QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+		int executed = StatementCounter.count();
+		if (budget != null && context.getExecutionException().isEmpty() && executed > budget.value()) {
+			throw new AssertionFailedError(String.format(
+					"%s issued %d SQL statements, budget is %d:%n  %s",
+					context.getDisplayName(), executed, budget.value(),
+					String.join(System.lineSeparator() + "  ", StatementCounter.statements())));
+		}
+	}
+}
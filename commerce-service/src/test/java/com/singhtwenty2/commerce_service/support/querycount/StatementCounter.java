@@ -0,0 +1,40 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.support.querycount;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class StatementCounter {
+
+	private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+	private StatementCounter() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	public static void reset() {
+		STATEMENTS.get().clear();
+	}
+
+	public static void record(String sql) {
+		STATEMENTS.get().add(sql);
+	}
+
+	public static int count() {
+		return STATEMENTS.get().size();
+	}
+
+	public static List<String> statements() {
+		return List.copyOf(STATEMENTS.get());
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2025 Aryan Singh
+ * Developer: Aryan Singh (@singhtwenty2)
+ * Portfolio: https://singhtwenty2.pages.dev/
+ * This file is part of SSEW E-commerce Backend System
+ * Licensed under MIT License
+ * For commercial use and inquiries: aryansingh.corp@gmail.com
+ * @author Aryan Singh (@singhtwenty2)
+ * @project SSEW E-commerce Backend System
+ * @since 2025
+ */
+package com.singhtwenty2.commerce_service.support.querycount;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+	public StatementCountingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return countingConnection(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return countingConnection(super.getConnection(username, password));
+	}
+
+	private static Connection countingConnection(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(
+				StatementCountingDataSource.class.getClassLoader(),
+				new Class<?>[]{Connection.class},
+				(proxy, method, args) -> {
+					String name = method.getName();
+					if (name.equals("prepareStatement") || name.equals("prepareCall")) {
+						StatementCounter.record((String) args[0]);
+					}
+					Object result = invoke(connection, method, args);
+					if (name.equals("createStatement")) {
+						return countingStatement((Statement) result);
+					}
+					return result;
+				});
+	}
+
+	private static Statement countingStatement(Statement statement) {
+		return (Statement) Proxy.newProxyInstance(
+				StatementCountingDataSource.class.getClassLoader(),
+				new Class<?>[]{Statement.class},
+				(proxy, method, args) -> {
+					if (method.getName().startsWith("execute") && args != null && args.length > 0) {
+						StatementCounter.record((String) args[0]);
+					}
+					return invoke(statement, method, args);
+				});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}